@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Andrey Loskutov and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Andrey Loskutov - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.bcoview.asm;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Remembers the most recently decompiled classes, keyed by the content of the class file and the
+ * options used to decompile it, so that re-visiting a class does not decompile it again.
+ */
+public class DecompiledClassCache {
+
+	private static final int CACHE_SIZE = 16;
+
+	private static final Map<Key, DecompiledClass> cache = new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, DecompiledClass> eldest) {
+			return size() > CACHE_SIZE;
+		}
+	};
+
+	/**
+	 * Identifies the result of decompiling given class file content with given options.
+	 */
+	public static final class Key {
+
+		private final byte[] contentHash;
+
+		private final String fieldFilter;
+
+		private final String methodFilter;
+
+		private final BitSet modes;
+
+		private final int hashCode;
+
+		public Key(final byte[] bytes, final DecompilerOptions options) {
+			this.contentHash = hash(bytes);
+			this.fieldFilter = options.fieldFilter;
+			this.methodFilter = options.methodFilter;
+			this.modes = (BitSet) options.modes.clone();
+			this.hashCode = Objects.hash(Integer.valueOf(Arrays.hashCode(contentHash)), fieldFilter, methodFilter, modes);
+		}
+
+		private static byte[] hash(byte[] bytes) {
+			try {
+				return MessageDigest.getInstance("SHA-256").digest(bytes); //$NON-NLS-1$
+			} catch (NoSuchAlgorithmException e) {
+				// every JVM has to support SHA-256
+				throw new IllegalStateException(e);
+			}
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return hashCode == other.hashCode
+					&& Arrays.equals(contentHash, other.contentHash)
+					&& Objects.equals(fieldFilter, other.fieldFilter)
+					&& Objects.equals(methodFilter, other.methodFilter)
+					&& modes.equals(other.modes);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
+	private DecompiledClassCache() {
+		// static access only
+	}
+
+	/**
+	 * @param key the class file content and options
+	 * @return the cached result, or null if the class was not decompiled recently with these options
+	 */
+	public static DecompiledClass get(Key key) {
+		synchronized (cache) {
+			return cache.get(key);
+		}
+	}
+
+	/**
+	 * @param key the class file content and options
+	 * @param decompiledClass the result of decompiling the class file content with the options
+	 */
+	public static void put(Key key, DecompiledClass decompiledClass) {
+		synchronized (cache) {
+			cache.put(key, decompiledClass);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Eric Bruneton and others.
+ * Copyright (c) 2023, 2026 Eric Bruneton and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,7 +18,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.MethodNode;
 import org.objectweb.asm.util.Printer;
 import org.objectweb.asm.util.TraceClassVisitor;
 
@@ -33,7 +37,12 @@ public class DecompilerHelper {
 		if (options.modes.get(BCOConstants.F_EXPAND_STACKMAP)) {
 			crFlags |= ClassReader.EXPAND_FRAMES;
 		}
-		cr.accept(cn, crFlags);
+		if (options.methodFilter != null || options.fieldFilter != null) {
+			// only the selected member is shown: don't even parse the code of the other methods
+			cr.accept(new SelectedMemberFilter(cn, options), crFlags);
+		} else {
+			cr.accept(cn, crFlags);
+		}
 		ICommentedClassVisitor printer;
 		if (options.modes.get(BCOConstants.F_SHOW_ASMIFIER_CODE)) {
 			printer = new CommentedASMifierClassVisitor(cn, options);
@@ -42,7 +51,50 @@ public class DecompilerHelper {
 		}
 		TraceClassVisitor dcv = new TraceClassVisitor(null, (Printer) printer, null);
 		cn.accept(dcv);
-		return getResult(printer, cn);
+		DecompiledClass result = getResult(printer, cn);
+		releaseCode(cn);
+		return result;
+	}
+
+	/**
+	 * The decompiled methods have their text, line mappings and frames computed at this point, so
+	 * the instructions (by far the biggest part of large class nodes) are not needed anymore.
+	 */
+	private static void releaseCode(ClassNode classNode) {
+		for (MethodNode mn : classNode.methods) {
+			// unlinks the nodes, which are still referenced from labels and local variables
+			mn.instructions.clear();
+		}
+	}
+
+	/**
+	 * Passes only the member selected by the {@link DecompilerOptions} to the class node, so that the
+	 * class reader skips the code of all other methods.
+	 */
+	private static final class SelectedMemberFilter extends ClassVisitor {
+
+		private final DecompilerOptions options;
+
+		SelectedMemberFilter(ClassVisitor cv, DecompilerOptions options) {
+			super(DecompilerOptions.LATEST_ASM_VERSION, cv);
+			this.options = options;
+		}
+
+		@Override
+		public FieldVisitor visitField(int access, String name, String descriptor, String signature, Object value) {
+			if (options.methodFilter != null || !name.equals(options.fieldFilter)) {
+				return null;
+			}
+			return super.visitField(access, name, descriptor, signature, value);
+		}
+
+		@Override
+		public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+			if (options.fieldFilter != null || !(name + descriptor).equals(options.methodFilter)) {
+				return null;
+			}
+			return super.visitMethod(access, name, descriptor, signature, exceptions);
+		}
 	}
 
 	private static DecompiledClass getResult(ICommentedClassVisitor printer, ClassNode classNode) {
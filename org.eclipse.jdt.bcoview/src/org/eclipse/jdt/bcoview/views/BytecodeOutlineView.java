@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Andrey Loskutov and others.
+ * Copyright (c) 2023, 2026 Andrey Loskutov and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.ResourceBundle;
 import java.util.Set;
 
@@ -28,6 +29,7 @@ import org.objectweb.asm.util.Printer;
 
 import org.eclipse.jdt.bcoview.BytecodeOutlinePlugin;
 import org.eclipse.jdt.bcoview.asm.DecompiledClass;
+import org.eclipse.jdt.bcoview.asm.DecompiledClassCache;
 import org.eclipse.jdt.bcoview.asm.DecompiledMethod;
 import org.eclipse.jdt.bcoview.asm.DecompilerHelper;
 import org.eclipse.jdt.bcoview.asm.DecompilerOptions;
@@ -56,13 +58,17 @@ import org.eclipse.swt.layout.GridData;
 import org.eclipse.swt.layout.GridLayout;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Menu;
 import org.eclipse.swt.widgets.Table;
 import org.eclipse.swt.widgets.TableColumn;
 import org.eclipse.swt.widgets.TableItem;
 import org.eclipse.swt.widgets.Widget;
 
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 
 import org.eclipse.core.filebuffers.FileBuffers;
 
@@ -234,6 +240,9 @@ public class BytecodeOutlineView extends ViewPart implements IBytecodePart {
 
 	private DecompiledClass lastDecompiledResult;
 
+	/** decompiles the class of the current selection in background, null if nothing is pending */
+	private DecompileJob decompileJob;
+
 	protected Map<String, IAction> globalActions;
 
 	protected List<String> selectionActions;
@@ -1018,6 +1027,7 @@ public class BytecodeOutlineView extends ViewPart implements IBytecodePart {
 		if (statusControl != null && !statusControl.isDisposed()) {
 			updateStatus(null, -1, -1);
 		}
+		cancelDecompileJob();
 		currentSelection = null;
 		lastDecompiledResult = null;
 		javaEditor = null;
@@ -1045,26 +1055,38 @@ public class BytecodeOutlineView extends ViewPart implements IBytecodePart {
 			return;
 		}
 
-		boolean clearOutput = false;
-
 		if (inputChanged || isSelectedElementChanged(childEl)) {
-			DecompiledClass result = decompileBytecode(childEl);
-			if (result == null) {
-				clearOutput = true;
+			decompileBytecode(childEl);
+			return;
+		}
+		boolean clearOutput = childEl == null && modes.get(BCOConstants.F_SHOW_ONLY_SELECTED_ELEMENT);
+		finishRefresh(childEl, clearOutput);
+	}
+
+	/**
+	 * Shows the decompiled class of the given element.
+	 *
+	 * @param childEl can be null
+	 * @param result null if the bytecode is not available
+	 */
+	private void showDecompiledResult(IJavaElement childEl, DecompiledClass result) {
+		boolean clearOutput = false;
+		if (result == null) {
+			clearOutput = true;
+		} else {
+			boolean hasMethods = !result.isAbstractOrInterface() || result.isDefaultMethodPossible();
+			if (modes.get(BCOConstants.F_SHOW_ANALYZER) && hasMethods) {
+				refreshVerifyView(result);
 			} else {
-				boolean hasMethods = !result.isAbstractOrInterface() || result.isDefaultMethodPossible();
-				if (modes.get(BCOConstants.F_SHOW_ANALYZER) && hasMethods) {
-					refreshVerifyView(result);
-				} else {
-					toggleVerifierAction.setEnabled(hasMethods);
-					refreshTextView(result);
-				}
+				toggleVerifierAction.setEnabled(hasMethods);
+				refreshTextView(result);
 			}
-			lastDecompiledResult = result;
-		} else if (childEl == null && modes.get(BCOConstants.F_SHOW_ONLY_SELECTED_ELEMENT)) {
-			clearOutput = true;
 		}
+		lastDecompiledResult = result;
+		finishRefresh(childEl, clearOutput);
+	}
 
+	private void finishRefresh(IJavaElement childEl, boolean clearOutput) {
 		lastChildElement = childEl;
 		if (clearOutput) {
 			if (!modes.get(BCOConstants.F_SHOW_ANALYZER)) {
@@ -1421,61 +1443,155 @@ public class BytecodeOutlineView extends ViewPart implements IBytecodePart {
 	}
 
 	/**
+	 * Shows the decompiled bytecode of the class of the given element. The class is read and
+	 * decompiled in background.
+	 *
 	 * @param childEl can be null
-	 * @return return null if type is not known or bytecode is not written or cannot be found
 	 */
-	private DecompiledClass decompileBytecode(IJavaElement childEl) {
+	private void decompileBytecode(IJavaElement childEl) {
 		// check here for inner classes too
 		IJavaElement type = JdtUtils.getEnclosingType(childEl);
 		if (type == null) {
 			type = javaInput;
 		}
 		if (type == null) {
-			return null;
-		}
-		byte[] bytes = JdtUtils.readClassBytes(type);
-		if (bytes == null) {
-			return null;
+			cancelDecompileJob();
+			showDecompiledResult(childEl, null);
+			return;
 		}
-		DecompiledClass decompiledClass = null;
-		int available = bytes.length;
-		try {
-			String fieldName = null;
-			String methodName = null;
-			/*
-			 * find out, which name we should use for selected element
-			 */
-			if (modes.get(BCOConstants.F_SHOW_ONLY_SELECTED_ELEMENT) && childEl != null) {
-				if (childEl.getElementType() == IJavaElement.FIELD) {
-					fieldName = childEl.getElementName();
-				} else {
-					methodName = JdtUtils.getMethodSignature(childEl);
-				}
-			}
-			decompiledClass = DecompilerHelper.getDecompiledClass(bytes, new DecompilerOptions(fieldName, methodName, modes));
-		} catch (Exception e) {
-			try {
-				// check if compilation unit is ok - then this is the user problem
-				if (type.isStructureKnown()) {
-					BytecodeOutlinePlugin.error("Cannot decompile: " + type, e); //$NON-NLS-1$
-				} else {
-					BytecodeOutlinePlugin.log(e, IStatus.ERROR);
-				}
-			} catch (JavaModelException e1) {
-				// this is compilation problem - don't show the message
-				BytecodeOutlinePlugin.log(e1, IStatus.WARNING);
+		String fieldName = null;
+		String methodName = null;
+		/*
+		 * find out, which name we should use for selected element
+		 */
+		if (modes.get(BCOConstants.F_SHOW_ONLY_SELECTED_ELEMENT) && childEl != null) {
+			if (childEl.getElementType() == IJavaElement.FIELD) {
+				fieldName = childEl.getElementName();
+			} else {
+				methodName = JdtUtils.getMethodSignature(childEl);
 			}
-		} catch (UnsupportedClassVersionError e) {
+		}
+		// the job must not see later changes of the view modes
+		DecompilerOptions options = new DecompilerOptions(fieldName, methodName, (BitSet) modes.clone());
+		if (decompileJob != null && decompileJob.isDecompiling(type, options)) {
+			// same class is already being decompiled, just show the newest selection when done
+			decompileJob.childEl = childEl;
+			return;
+		}
+		cancelDecompileJob();
+		decompileJob = new DecompileJob(childEl, type, options);
+		decompileJob.schedule();
+	}
+
+	private void cancelDecompileJob() {
+		if (decompileJob != null) {
+			decompileJob.cancel();
+			decompileJob = null;
+		}
+	}
+
+	/**
+	 * Called in the UI thread when the decompile job has finished.
+	 */
+	private void decompileJobDone(DecompileJob job, DecompiledClass decompiledClass, Throwable error) {
+		if (job != decompileJob || !isActive() || textControl == null || textControl.isDisposed()) {
+			// outdated
+			return;
+		}
+		decompileJob = null;
+		if (error != null) {
+			reportDecompileError(job.type, error);
+		}
+		showDecompiledResult(job.childEl, decompiledClass);
+	}
+
+	private static void reportDecompileError(IJavaElement type, Throwable e) {
+		if (e instanceof UnsupportedClassVersionError) {
 			BytecodeOutlinePlugin.error("Cannot decompile: " + type //$NON-NLS-1$
 					+ ". Error was caused by attempt to " //$NON-NLS-1$
 					+ "load a class compiled with the Java version which is not " //$NON-NLS-1$
 					+ "supported by the current JVM. ", e); //$NON-NLS-1$
+			return;
+		}
+		try {
+			// check if compilation unit is ok - then this is the user problem
+			if (type.isStructureKnown()) {
+				BytecodeOutlinePlugin.error("Cannot decompile: " + type, e); //$NON-NLS-1$
+			} else {
+				BytecodeOutlinePlugin.log(e, IStatus.ERROR);
+			}
+		} catch (JavaModelException e1) {
+			// this is compilation problem - don't show the message
+			BytecodeOutlinePlugin.log(e1, IStatus.WARNING);
+		}
+	}
+
+	/**
+	 * Reads and decompiles class bytes outside of the UI thread and passes the result back to the
+	 * view. Classes decompiled recently with the same options are taken from the cache.
+	 */
+	private final class DecompileJob extends Job {
+
+		/** the element to reveal once decompiled, can be null. Only accessed in the UI thread */
+		IJavaElement childEl;
+
+		final IJavaElement type;
+
+		final DecompilerOptions options;
+
+		private final Display display;
+
+		DecompileJob(IJavaElement childEl, IJavaElement type, DecompilerOptions options) {
+			super(Messages.BytecodeOutlineView_decompile_job_name);
+			this.childEl = childEl;
+			this.type = type;
+			this.options = options;
+			this.display = textControl.getDisplay();
+			setSystem(true);
 		}
-		// remember class file size to show it later in UI
-		if (decompiledClass != null) {
-			decompiledClass.setClassSize(available);
+
+		boolean isDecompiling(IJavaElement otherType, DecompilerOptions otherOptions) {
+			return type.equals(otherType)
+					&& Objects.equals(options.fieldFilter, otherOptions.fieldFilter)
+					&& Objects.equals(options.methodFilter, otherOptions.methodFilter)
+					&& options.modes.equals(otherOptions.modes);
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			DecompiledClass decompiledClass = null;
+			Throwable error = null;
+			byte[] bytes = JdtUtils.readClassBytes(type);
+			if (monitor.isCanceled()) {
+				return Status.CANCEL_STATUS;
+			}
+			if (bytes != null) {
+				DecompiledClassCache.Key key = new DecompiledClassCache.Key(bytes, options);
+				decompiledClass = DecompiledClassCache.get(key);
+				if (decompiledClass == null) {
+					if (monitor.isCanceled()) {
+						return Status.CANCEL_STATUS;
+					}
+					try {
+						decompiledClass = DecompilerHelper.getDecompiledClass(bytes, options);
+						// remember class file size to show it later in UI
+						decompiledClass.setClassSize(bytes.length);
+						DecompiledClassCache.put(key, decompiledClass);
+					} catch (Exception | UnsupportedClassVersionError e) {
+						error = e;
+					}
+				}
+			}
+			if (monitor.isCanceled()) {
+				return Status.CANCEL_STATUS;
+			}
+			final DecompiledClass result = decompiledClass;
+			final Throwable failure = error;
+			if (!display.isDisposed()) {
+				display.asyncExec(() -> decompileJobDone(this, result, failure));
+			}
+			return Status.OK_STATUS;
 		}
-		return decompiledClass;
 	}
 
 	private void setVerifyTableItems(String[][] items) {
@@ -0,0 +1,262 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.manipulation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.jdt.internal.core.manipulation.JavaElementLabelComposerCore.FlexibleStringBuilderCore;
+import org.eclipse.jdt.internal.core.manipulation.util.Strings;
+
+/**
+ * Caches the labels composed by {@link JavaElementLabelsCore#getElementLabel(IJavaElement, long)}
+ * and by the label composers of the UI, keyed by the kind of label, the handle identifier of the
+ * element and the rendering flags.
+ * <p>
+ * A label is removed from the cache as soon as a Java element delta reports a change of its
+ * element or of one of the element's ancestors. The labels are indexed by the openable of their
+ * element, so that a change only looks at the labels of the affected openables. Labels of
+ * resolved elements ({@link JavaElementLabelsCore#USE_RESOLVED}) and of elements in working
+ * copies that are not primary are not cached, as their handle identifiers do not identify their
+ * contents.
+ * </p>
+ *
+ * @since 1.20
+ */
+public final class JavaElementLabelCache {
+
+	private static final class Entry {
+		final IJavaElement fElement;
+		final IJavaElement fOpenable;
+		final Object fLabel;
+
+		Entry(IJavaElement element, IJavaElement openable, Object label) {
+			fElement= element;
+			fOpenable= openable;
+			fLabel= label;
+		}
+	}
+
+	private static final int CACHE_SIZE= 10000;
+
+	/** Flags of a delta on an element above compilation units that do not affect any label */
+	private static final int CONTAINER_CHANGE_FLAGS= IJavaElementDelta.F_CHILDREN | IJavaElementDelta.F_CONTENT;
+
+	/** Kind of the labels composed by {@link JavaElementLabelComposerCore} */
+	private static final String CORE_LABEL= "core"; //$NON-NLS-1$
+
+	private static final Map<String, Entry> fgLabels= new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+			if (size() <= CACHE_SIZE)
+				return false;
+			unindex(eldest.getKey(), eldest.getValue());
+			return true;
+		}
+	};
+
+	/** The keys of the cached labels by the openable of their element, guarded by {@link #fgLabels} */
+	private static final Map<IJavaElement, Set<String>> fgKeysByOpenable= new HashMap<>();
+
+	/** Incremented whenever labels are removed, guarded by {@link #fgLabels} */
+	private static long fgGeneration;
+
+	private static IElementChangedListener fgListener;
+
+	private JavaElementLabelCache() {
+	}
+
+	/**
+	 * Returns the label for a Java element, composing it only if it is not cached.
+	 *
+	 * @param element the element to render
+	 * @param flags the rendering flags
+	 * @return the label of the Java element
+	 */
+	static String getElementLabel(IJavaElement element, long flags) {
+		return getLabel(CORE_LABEL, element, flags, () -> composeLabel(element, flags));
+	}
+
+	/**
+	 * Returns the label for a Java element, composing it only if it is not cached.
+	 *
+	 * @param kind the kind of label, distinguishes labels of the same element and flags that are
+	 *            composed differently
+	 * @param element the element to render
+	 * @param flags the rendering flags
+	 * @param composer composes the label, which must not be modified afterwards
+	 * @return the label of the Java element
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T getLabel(String kind, IJavaElement element, long flags, Supplier<T> composer) {
+		if (!isCacheable(element, flags))
+			return composer.get();
+
+		String key= getKey(kind, element, flags);
+		long generation;
+		synchronized (fgLabels) {
+			Entry entry= fgLabels.get(key);
+			if (entry != null)
+				return (T) entry.fLabel;
+			if (fgListener == null) {
+				fgListener= JavaElementLabelCache::elementChanged;
+				JavaCore.addElementChangedListener(fgListener, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+			}
+			generation= fgGeneration;
+		}
+
+		T label= composer.get();
+		synchronized (fgLabels) {
+			// a label composed while the element changed may be stale
+			if (generation == fgGeneration) {
+				IJavaElement openable= getOpenable(element);
+				fgLabels.put(key, new Entry(element, openable, label));
+				fgKeysByOpenable.computeIfAbsent(openable, o -> new HashSet<>()).add(key);
+			}
+		}
+		return label;
+	}
+
+	private static String composeLabel(IJavaElement element, long flags) {
+		StringBuilder result= new StringBuilder();
+		new JavaElementLabelComposerCore(new FlexibleStringBuilderCore(result)).appendElementLabel(element, flags);
+		return Strings.markJavaElementLabelLTR(result.toString());
+	}
+
+	private static boolean isCacheable(IJavaElement element, long flags) {
+		if (JavaElementLabelComposerCore.getFlag(flags, JavaElementLabelsCore.USE_RESOLVED))
+			return false;
+		ICompilationUnit cu= (ICompilationUnit) element.getAncestor(IJavaElement.COMPILATION_UNIT);
+		return cu == null || cu.getOwner() == null;
+	}
+
+	private static String getKey(String kind, IJavaElement element, long flags) {
+		return kind + ':' + Long.toHexString(flags) + ':' + element.getHandleIdentifier();
+	}
+
+	/*
+	 * Projects, roots and packages are openables themselves.
+	 */
+	private static IJavaElement getOpenable(IJavaElement element) {
+		IJavaElement openable= (IJavaElement) element.getOpenable();
+		return openable != null ? openable : element;
+	}
+
+	private static void unindex(String key, Entry entry) {
+		Set<String> keys= fgKeysByOpenable.get(entry.fOpenable);
+		if (keys != null) {
+			keys.remove(key);
+			if (keys.isEmpty())
+				fgKeysByOpenable.remove(entry.fOpenable);
+		}
+	}
+
+	/**
+	 * Removes all cached labels, e.g. after a change of the preferences labels depend on.
+	 */
+	public static void clear() {
+		synchronized (fgLabels) {
+			fgLabels.clear();
+			fgKeysByOpenable.clear();
+			fgGeneration++;
+		}
+	}
+
+	/**
+	 * Removes all cached labels and stops listening to changes of Java elements.
+	 */
+	public static void dispose() {
+		synchronized (fgLabels) {
+			if (fgListener != null) {
+				JavaCore.removeElementChangedListener(fgListener);
+				fgListener= null;
+			}
+		}
+		clear();
+	}
+
+	private static void elementChanged(ElementChangedEvent event) {
+		List<IJavaElement> changed= new ArrayList<>();
+		collectChangedElements(event.getDelta(), changed);
+		if (changed.isEmpty())
+			return;
+
+		synchronized (fgLabels) {
+			fgGeneration++;
+			for (IJavaElement element : changed) {
+				if (element.getElementType() < IJavaElement.COMPILATION_UNIT) {
+					// a container changed, remove the labels of all openables inside it
+					for (Iterator<Map.Entry<IJavaElement, Set<String>>> iter= fgKeysByOpenable.entrySet().iterator(); iter.hasNext();) {
+						Map.Entry<IJavaElement, Set<String>> entry= iter.next();
+						if (isAncestorOrSelf(element, entry.getKey())) {
+							fgLabels.keySet().removeAll(entry.getValue());
+							iter.remove();
+						}
+					}
+				} else {
+					Set<String> keys= fgKeysByOpenable.get(getOpenable(element));
+					if (keys == null)
+						continue;
+					for (Iterator<String> iter= keys.iterator(); iter.hasNext();) {
+						String key= iter.next();
+						Entry entry= fgLabels.get(key);
+						if (entry == null || isAncestorOrSelf(element, entry.fElement)) {
+							fgLabels.remove(key);
+							iter.remove();
+						}
+					}
+					if (keys.isEmpty())
+						fgKeysByOpenable.remove(getOpenable(element));
+				}
+			}
+		}
+	}
+
+	private static void collectChangedElements(IJavaElementDelta delta, List<IJavaElement> changed) {
+		IJavaElement element= delta.getElement();
+		int ignoredFlags= element.getElementType() < IJavaElement.COMPILATION_UNIT ? CONTAINER_CHANGE_FLAGS : IJavaElementDelta.F_CHILDREN;
+		if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & ~ignoredFlags) != 0) {
+			// the element itself changed, which invalidates the labels of all its descendants
+			changed.add(element);
+			return;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			collectChangedElements(child, changed);
+		}
+	}
+
+	private static boolean isAncestorOrSelf(IJavaElement ancestor, IJavaElement element) {
+		for (IJavaElement curr= element; curr != null; curr= curr.getParent()) {
+			if (ancestor.equals(curr))
+				return true;
+		}
+		return false;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018 IBM Corporation and others.
+ * Copyright (c) 2018, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -118,6 +118,41 @@ public class JavaElementLabelComposerCore {
 		}
 	}
 
+	/**
+	 * A buffer backed by a {@link StringBuilder}, for labels that are composed by a single thread.
+	 *
+	 * @since 1.20
+	 */
+	public static class FlexibleStringBuilderCore extends FlexibleBufferCore {
+		private final StringBuilder fStringBuilder;
+
+		public FlexibleStringBuilderCore(StringBuilder stringBuilder) {
+			fStringBuilder= stringBuilder;
+		}
+
+		@Override
+		public FlexibleBufferCore append(char ch) {
+			fStringBuilder.append(ch);
+			return this;
+		}
+
+		@Override
+		public FlexibleBufferCore append(String string) {
+			fStringBuilder.append(string);
+			return this;
+		}
+
+		@Override
+		public int length() {
+			return fStringBuilder.length();
+		}
+
+		@Override
+		public String toString() {
+			return fStringBuilder.toString();
+		}
+	}
+
 	final static long QUALIFIER_FLAGS= JavaElementLabelsCore.P_COMPRESSED | JavaElementLabelsCore.USE_RESOLVED;
 
 	/*
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020 IBM Corporation and others.
+ * Copyright (c) 2020, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,12 +14,13 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.jarpackager;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
-import java.util.Enumeration;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.jar.JarEntry;
@@ -103,19 +104,20 @@ public class JarPackagerUtilCore {
 	public static void writeArchive(ZipFile zipFile, boolean areDirectoryEntriesIncluded,
 			boolean isCompressed, JarOutputStream jarOutputStream,
 			Set<String> directories, MultiStatus status, IProgressMonitor progressMonitor) {
-		Enumeration<? extends ZipEntry> jarEntriesEnum= zipFile.entries();
+		List<? extends ZipEntry> jarEntries= Collections.list(zipFile.entries());
 		File zipFile1= new File(zipFile.getName());
-		try {
+		// inflate the entries in parallel while this thread deflates them into the JarOutputStream
+		try (ZipEntryPrefetcher prefetcher= new ZipEntryPrefetcher(zipFile, jarEntries)) {
 			String zipFileCanonical= zipFile1.getCanonicalPath();
 
-			while (jarEntriesEnum.hasMoreElements()) {
-				ZipEntry zipEntry= jarEntriesEnum.nextElement();
+			for (ZipEntry zipEntry : jarEntries) {
+				byte[] content= prefetcher.next();
 				if (!zipEntry.isDirectory()) {
 					String entryName= zipEntry.getName();
 					File zipEntryFile= new File(zipFile1, entryName);
 					String zipEntryCanonical= zipEntryFile.getCanonicalPath();
 					if (zipEntryCanonical.startsWith(zipFileCanonical + File.separator)) {
-						addFile(entryName, zipEntry, zipFile, areDirectoryEntriesIncluded, isCompressed, jarOutputStream, directories, status);
+						addFile(entryName, zipEntry, zipFile, content, areDirectoryEntriesIncluded, isCompressed, jarOutputStream, directories, status);
 					} else {
 						addWarning("Invalid path" + entryName, null, status); //$NON-NLS-1$
 					}
@@ -138,6 +140,7 @@ public class JarPackagerUtilCore {
 	 * @param destinationPath the destinationPath in the jar file
 	 * @param jarEntry the jar entry to write
 	 * @param zipFile the zipFile to extract
+	 * @param content the content of the entry, or <code>null</code> to read it from the zipFile
 	 * @param areDirectoryEntriesIncluded the directory entries are included
 	 * @param isCompressed the jar is compressed
 	 * @param jarOutputStream the destination JarOutputStream
@@ -147,7 +150,7 @@ public class JarPackagerUtilCore {
 	 * @since 1.14
 	 *
 	 */
-	private static void addFile(String destinationPath, ZipEntry jarEntry, ZipFile zipFile,
+	private static void addFile(String destinationPath, ZipEntry jarEntry, ZipFile zipFile, byte[] content,
 			boolean areDirectoryEntriesIncluded, boolean isCompressed,
 			JarOutputStream jarOutputStream, Set<String> directories, MultiStatus status) {
 		// Handle META-INF/MANIFEST.MF
@@ -156,7 +159,7 @@ public class JarPackagerUtilCore {
 			return;
 		}
 		try {
-			addZipEntry(jarEntry, zipFile, destinationPath, areDirectoryEntriesIncluded, isCompressed, jarOutputStream, directories);
+			addZipEntry(jarEntry, zipFile, content, destinationPath, areDirectoryEntriesIncluded, isCompressed, jarOutputStream, directories);
 		} catch (IOException ex) {
 			if (ex instanceof ZipException && ex.getMessage() != null && ex.getMessage().startsWith("duplicate entry:")) {//$NON-NLS-1$
 				// ignore duplicates in META-INF (*.SF, *.RSA)
@@ -189,6 +192,12 @@ public class JarPackagerUtilCore {
 	public static void addZipEntry(ZipEntry zipEntry, ZipFile zipFile, String path,
 			boolean areDirectoryEntriesIncluded, boolean isCompressed,
 			JarOutputStream jarOutputStream, Set<String> directories) throws IOException {
+		addZipEntry(zipEntry, zipFile, null, path, areDirectoryEntriesIncluded, isCompressed, jarOutputStream, directories);
+	}
+
+	private static void addZipEntry(ZipEntry zipEntry, ZipFile zipFile, byte[] content, String path,
+			boolean areDirectoryEntriesIncluded, boolean isCompressed,
+			JarOutputStream jarOutputStream, Set<String> directories) throws IOException {
 		if (areDirectoryEntriesIncluded) {
 			addDirectories(path, jarOutputStream, directories);
 		}
@@ -208,7 +217,8 @@ public class JarPackagerUtilCore {
 		// Set modification time
 		newEntry.setTime(lastModified);
 
-		addEntry(newEntry, zipFile.getInputStream(zipEntry), jarOutputStream);
+		InputStream stream= content != null ? new ByteArrayInputStream(content) : zipFile.getInputStream(zipEntry);
+		addEntry(newEntry, stream, jarOutputStream);
 	}
 
 	/**
@@ -365,6 +375,21 @@ public class JarPackagerUtilCore {
 		entry.setCrc(crc.getValue());
 	}
 
+	/**
+	 * Calculates the crc and size of the given content and updates the entry.
+	 *
+	 * @param entry the jar entry to update
+	 * @param content the content of the entry
+	 *
+	 * @since 1.20
+	 */
+	public static void calculateCrcAndSize(final ZipEntry entry, final byte[] content) {
+		final CRC32 crc= new CRC32();
+		crc.update(content);
+		entry.setSize(content.length);
+		entry.setCrc(crc.getValue());
+	}
+
 	/**
 	 * add a warning message into the MultiStatus.
 	 *
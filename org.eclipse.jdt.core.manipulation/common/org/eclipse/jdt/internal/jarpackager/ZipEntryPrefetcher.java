@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.jarpackager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.eclipse.jdt.internal.corext.refactoring.util.ConcurrentTaskRunner;
+
+/**
+ * Reads the contents of the entries of an archive on the worker threads of
+ * {@link ConcurrentTaskRunner} ahead of the thread that writes them, so that inflating the entries
+ * runs in parallel with deflating them into the exported archive.
+ * <p>
+ * Contents are handed out in the order of the entries. Only entries of at most
+ * {@link #MAX_ENTRY_SIZE} bytes are read ahead, and at most {@link #WINDOW_SIZE} entries are in
+ * flight at any time, which bounds the memory used. Archives that the {@link ConcurrentTaskRunner}
+ * would process sequentially are not read ahead at all.
+ * </p>
+ */
+final class ZipEntryPrefetcher implements AutoCloseable {
+
+	private static final int MAX_ENTRY_SIZE= 1024 * 1024;
+
+	private static final int WINDOW_SIZE= 32;
+
+	private final ZipFile fZipFile;
+
+	private final List<? extends ZipEntry> fEntries;
+
+	/** Pending reads by entry index, <code>null</code> for entries that are not read ahead */
+	private final Future<?>[] fContents;
+
+	/** <code>false</code> if the archive is read by the caller */
+	private final boolean fReadAhead;
+
+	private int fNextToSubmit;
+
+	private int fNextToTake;
+
+	ZipEntryPrefetcher(ZipFile zipFile, List<? extends ZipEntry> entries) {
+		fZipFile= zipFile;
+		fEntries= entries;
+		fContents= new Future<?>[entries.size()];
+		fReadAhead= !ConcurrentTaskRunner.isSequential(entries.size());
+	}
+
+	/**
+	 * Returns the content of the next entry. Must be called exactly once per entry, in the order of
+	 * the entries.
+	 *
+	 * @return the uncompressed content of the entry, or <code>null</code> if the caller has to read
+	 *         the entry itself, e.g. because it is large or could not be read ahead
+	 */
+	byte[] next() {
+		int index= fNextToTake++;
+		if (!fReadAhead)
+			return null;
+		submitUpTo(index + WINDOW_SIZE);
+		Future<?> content= fContents[index];
+		fContents[index]= null;
+		if (content == null)
+			return null;
+		try {
+			return (byte[]) content.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return null;
+		} catch (ExecutionException e) {
+			// the caller reads the entry again and reports the problem
+			return null;
+		}
+	}
+
+	private void submitUpTo(int end) {
+		int limit= Math.min(end, fEntries.size());
+		while (fNextToSubmit < limit) {
+			ZipEntry entry= fEntries.get(fNextToSubmit);
+			long size= entry.getSize();
+			if (!entry.isDirectory() && size >= 0 && size <= MAX_ENTRY_SIZE) {
+				fContents[fNextToSubmit]= ConcurrentTaskRunner.submit(() -> read(entry));
+			}
+			fNextToSubmit++;
+		}
+	}
+
+	private byte[] read(ZipEntry entry) throws IOException {
+		try (InputStream stream= fZipFile.getInputStream(entry)) {
+			return stream.readAllBytes();
+		}
+	}
+
+	@Override
+	public void close() {
+		// the worker threads are shared, drop the reads that are still pending without interrupting them
+		for (int i= fNextToTake; i < fNextToSubmit; i++) {
+			Future<?> content= fContents[i];
+			if (content != null) {
+				content.cancel(false);
+				fContents[i]= null;
+			}
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,13 +17,14 @@ package org.eclipse.jdt.internal.corext.refactoring.generics;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
@@ -61,6 +62,62 @@ public class InferTypeArgumentsConstraintsSolver {
 		public static TTypeComparator INSTANCE= new TTypeComparator();
 	}
 
+	/**
+	 * Work-list of <code>ConstraintVariable2</code>s that holds every variable at most once.
+	 * <p>
+	 * Variables are identified by dense indices that follow the order in which they were first
+	 * added. Pending variables are processed in sweeps over ascending indices, so that a variable
+	 * re-added while a sweep is running is picked up by the same sweep if it comes later, and
+	 * variables that change repeatedly are not processed again before the others had their turn.
+	 * </p>
+	 */
+	private static final class WorkList {
+		private final Map<ConstraintVariable2, Integer> fIndices= new HashMap<>();
+		private ConstraintVariable2[] fVariables= new ConstraintVariable2[64];
+		private final BitSet fPending= new BitSet();
+		private int fSize;
+		private int fCursor;
+
+		public void add(ConstraintVariable2 cv) {
+			Integer index= fIndices.get(cv);
+			if (index == null) {
+				index= Integer.valueOf(fIndices.size());
+				fIndices.put(cv, index);
+				if (index.intValue() == fVariables.length)
+					fVariables= Arrays.copyOf(fVariables, fVariables.length * 2);
+				fVariables[index.intValue()]= cv;
+			}
+			if (!fPending.get(index.intValue())) {
+				fPending.set(index.intValue());
+				fSize++;
+			}
+		}
+
+		public void addAll(ConstraintVariable2[] cvs) {
+			for (ConstraintVariable2 cv : cvs) {
+				add(cv);
+			}
+		}
+
+		public boolean isEmpty() {
+			return fSize == 0;
+		}
+
+		public int size() {
+			return fSize;
+		}
+
+		public ConstraintVariable2 removeFirst() {
+			int index= fPending.nextSetBit(fCursor);
+			if (index < 0)
+				index= fPending.nextSetBit(0); // start the next sweep
+			fPending.clear(index);
+			fSize--;
+			fCursor= index + 1;
+			return fVariables[index];
+		}
+	}
+
 	private final static String CHOSEN_TYPE= "chosenType"; //$NON-NLS-1$
 
 	private final InferTypeArgumentsTCModel fTCModel;
@@ -68,17 +125,16 @@ public class InferTypeArgumentsConstraintsSolver {
 
 	/**
 	 * The work-list used by the type constraint solver to hold the set of
-	 * nodes in the constraint graph that remain to be (re-)processed. Entries
-	 * are <code>ConstraintVariable2</code>s.
+	 * nodes in the constraint graph that remain to be (re-)processed.
 	 */
-	private LinkedList<ConstraintVariable2> fWorkList;
+	private WorkList fWorkList;
 
 	private InferTypeArgumentsUpdate fUpdate;
 
 
 	public InferTypeArgumentsConstraintsSolver(InferTypeArgumentsTCModel typeConstraintFactory) {
 		fTCModel= typeConstraintFactory;
-		fWorkList= new LinkedList<>();
+		fWorkList= new WorkList();
 	}
 
 	public InferTypeArgumentsUpdate solveConstraints(IProgressMonitor pm) {
@@ -122,7 +178,7 @@ public class InferTypeArgumentsConstraintsSolver {
 		initializeTypeEstimates(allConstraintVariables);
 		if (pm.isCanceled())
 			throw new OperationCanceledException();
-		fWorkList.addAll(Arrays.asList(allConstraintVariables));
+		fWorkList.addAll(allConstraintVariables);
 		runSolver(new SubProgressMonitor(pm, 1));
 		chooseTypes(allConstraintVariables, new SubProgressMonitor(pm, 1));
 		findCastsToRemove(fTCModel.getCastVariables());
@@ -248,7 +304,7 @@ public class InferTypeArgumentsConstraintsSolver {
 //				throw new IllegalStateException("Type estimate set is now empty for LHS in " + left + " <= " + right + "; estimates were " + leftEstimate + " <= " + rightEstimate); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
 
 			leftSet.setTypeEstimate(xsection);
-			fWorkList.addAll(Arrays.asList(leftSet.getContributingVariables()));
+			fWorkList.addAll(leftSet.getContributingVariables());
 		}
 		if (! lhsSuperTypes.containsAll(rightEstimate)) {
 			TypeSet xsection= rightEstimate.intersectedWith(lhsSuperTypes);
@@ -257,7 +313,7 @@ public class InferTypeArgumentsConstraintsSolver {
 //				throw new IllegalStateException("Type estimate set is now empty for RHS in " + left + " <= " + right + "; estimates were " + leftEstimate + " <= " + rightEstimate); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
 
 			rightSet.setTypeEstimate(xsection);
-			fWorkList.addAll(Arrays.asList(rightSet.getContributingVariables()));
+			fWorkList.addAll(rightSet.getContributingVariables());
 		}
 	}
 
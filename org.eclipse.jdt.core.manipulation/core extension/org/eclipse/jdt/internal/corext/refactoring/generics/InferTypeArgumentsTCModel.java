@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2014 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -102,6 +102,7 @@ public class InferTypeArgumentsTCModel {
 		fCuScopedConstraintVariables= new HashSet<>();
 
 		fTypeEnvironment= new TypeEnvironment(true);
+		fTypeEnvironment.enableSubTypeClosure();
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,11 +19,13 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.SubProgressMonitor;
 
@@ -68,6 +70,7 @@ import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
 import org.eclipse.jdt.internal.corext.refactoring.RefactoringCoreMessages;
 import org.eclipse.jdt.internal.corext.refactoring.SearchResultGroup;
 import org.eclipse.jdt.internal.corext.refactoring.base.JavaStringStatusContext;
+import org.eclipse.jdt.internal.corext.refactoring.util.ConcurrentTaskRunner;
 import org.eclipse.jdt.internal.corext.refactoring.util.JavaStatusContext;
 import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringASTParser;
 import org.eclipse.jdt.internal.corext.refactoring.util.TextChangeManager;
@@ -181,26 +184,65 @@ public class RenameAnalyzeUtil {
 		return null;
 	}
 
+	/**
+	 * Creates working copies of the given compilation units with the changes of the manager
+	 * applied. The preview contents are computed and the working copies reconciled concurrently.
+	 *
+	 * @param compilationUnitsToModify the compilation units
+	 * @param manager the change manager holding a change for each of the compilation units
+	 * @param owner the owner of the new working copies
+	 * @param pm the progress monitor
+	 * @return the new working copies, in the order of the compilation units
+	 * @throws CoreException if a working copy could not be created
+	 */
 	public static ICompilationUnit[] createNewWorkingCopies(ICompilationUnit[] compilationUnitsToModify, TextChangeManager manager, WorkingCopyOwner owner, SubProgressMonitor pm) throws CoreException {
 		pm.beginTask("", compilationUnitsToModify.length); //$NON-NLS-1$
-		ICompilationUnit[] newWorkingCopies= new ICompilationUnit[compilationUnitsToModify.length];
-		for (int i= 0; i < compilationUnitsToModify.length; i++) {
-			ICompilationUnit cu= compilationUnitsToModify[i];
-			newWorkingCopies[i]= createNewWorkingCopy(cu, manager, owner, new SubProgressMonitor(pm, 1));
+		try {
+			// look up the changes on this thread, the workers only touch their own change
+			List<CompilationUnitAndChange> units= new ArrayList<>(compilationUnitsToModify.length);
+			for (ICompilationUnit cu : compilationUnitsToModify) {
+				units.add(new CompilationUnitAndChange(cu, manager.get(cu)));
+			}
+			List<ICompilationUnit> newWorkingCopies= ConcurrentTaskRunner.map(units,
+					(unit, monitor) -> createNewWorkingCopy(unit.fCu, unit.fChange, owner, monitor), pm);
+			return newWorkingCopies.toArray(new ICompilationUnit[newWorkingCopies.size()]);
+		} finally {
+			pm.done();
 		}
-		pm.done();
-		return newWorkingCopies;
 	}
 
 	public static ICompilationUnit createNewWorkingCopy(ICompilationUnit cu, TextChangeManager manager,
 			WorkingCopyOwner owner, SubProgressMonitor pm) throws CoreException {
+		return createNewWorkingCopy(cu, manager.get(cu), owner, pm);
+	}
+
+	private static ICompilationUnit createNewWorkingCopy(ICompilationUnit cu, TextChange change,
+			WorkingCopyOwner owner, IProgressMonitor pm) throws CoreException {
 		ICompilationUnit newWc= cu.getWorkingCopy(owner, null);
-		String previewContent= manager.get(cu).getPreviewContent(new NullProgressMonitor());
+		String previewContent= change.getPreviewContent(pm);
 		newWc.getBuffer().setContents(previewContent);
 		newWc.reconcile(ICompilationUnit.NO_AST, false, owner, pm);
 		return newWc;
 	}
 
+	private static final class CompilationUnitAndChange {
+		final ICompilationUnit fCu;
+		final TextChange fChange;
+		final SearchMatch[] fOldMatches;
+		final SearchMatch[] fNewMatches;
+
+		CompilationUnitAndChange(ICompilationUnit cu, TextChange change) {
+			this(cu, change, null, null);
+		}
+
+		CompilationUnitAndChange(ICompilationUnit cu, TextChange change, SearchMatch[] oldMatches, SearchMatch[] newMatches) {
+			fCu= cu;
+			fChange= change;
+			fOldMatches= oldMatches;
+			fNewMatches= newMatches;
+		}
+	}
+
 	private static boolean existsInNewOccurrences(SearchMatch searchResult, SearchResultGroup[] newOccurrences, TextChangeManager manager) {
 		SearchResultGroup newGroup= findOccurrenceGroup(searchResult.getResource(), newOccurrences);
 		if (newGroup == null)
@@ -255,7 +297,7 @@ public class RenameAnalyzeUtil {
 	//TODO: Currently filters out declarations (MethodDeclarationMatch, FieldDeclarationMatch).
 	//Long term solution: only pass reference search results in.
 	public static RefactoringStatus analyzeRenameChanges2(TextChangeManager manager,
-			SearchResultGroup[] oldReferences, SearchResultGroup[] newReferences, String newElementName) {
+			SearchResultGroup[] oldReferences, SearchResultGroup[] newReferences, String newElementName) throws CoreException {
 		RefactoringStatus result= new RefactoringStatus();
 
 		HashMap<ICompilationUnit, SearchMatch[]> cuToNewResults= new HashMap<>(newReferences.length);
@@ -265,6 +307,7 @@ public class RenameAnalyzeUtil {
 				cuToNewResults.put(cu.getPrimary(), newReference.getSearchResults());
 		}
 
+		List<CompilationUnitAndChange> changedUnits= new ArrayList<>(oldReferences.length);
 		for (SearchResultGroup oldGroup : oldReferences) {
 			SearchMatch[] oldMatches= oldGroup.getSearchResults();
 			ICompilationUnit cu= oldGroup.getCompilationUnit();
@@ -272,13 +315,23 @@ public class RenameAnalyzeUtil {
 				continue;
 
 			SearchMatch[] newSearchMatches= cuToNewResults.remove(cu);
-			if (newSearchMatches == null) {
-				for (SearchMatch oldMatch : oldMatches) {
-					addShadowsError(cu, oldMatch, result);
+			changedUnits.add(new CompilationUnitAndChange(cu, newSearchMatches == null ? null : manager.get(cu), oldMatches, newSearchMatches));
+		}
+
+		// the units are independent, analyze them concurrently and merge the results in order
+		List<RefactoringStatus> unitResults= ConcurrentTaskRunner.map(changedUnits, (unit, monitor) -> {
+			RefactoringStatus unitResult= new RefactoringStatus();
+			if (unit.fNewMatches == null) {
+				for (SearchMatch oldMatch : unit.fOldMatches) {
+					addShadowsError(unit.fCu, oldMatch, unitResult);
 				}
 			} else {
-				analyzeChanges(cu, manager.get(cu), oldMatches, newSearchMatches, newElementName, result);
+				analyzeChanges(unit.fCu, unit.fChange, unit.fOldMatches, unit.fNewMatches, newElementName, unitResult);
 			}
+			return unitResult;
+		}, null);
+		for (RefactoringStatus unitResult : unitResults) {
+			result.merge(unitResult);
 		}
 
 		for (Entry<ICompilationUnit, SearchMatch[]> entry : cuToNewResults.entrySet()) {
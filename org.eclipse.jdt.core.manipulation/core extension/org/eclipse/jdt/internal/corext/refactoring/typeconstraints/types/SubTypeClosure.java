@@ -0,0 +1,197 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Transitive sub type relation of the {@link HierarchyType}s of a {@link TypeEnvironment},
+ * encoded as bit sets over dense type ids.
+ * <p>
+ * The closures are computed lazily and remembered for the lifetime of the environment, which
+ * makes {@link HierarchyType#isSubType(HierarchyType)} a constant time lookup. Memory grows
+ * quadratically with the number of types queried, so the closure is only used by environments
+ * that asked for it with {@link TypeEnvironment#enableSubTypeClosure()}.
+ * </p>
+ *
+ * @see TypeEnvironment#getSubTypeClosure()
+ */
+public final class SubTypeClosure {
+
+	/**
+	 * Key of the generic, raw and parameterized types of one type declaration that are
+	 * type equivalent to a type of another of these kinds, see {@link TType#isTypeEquivalentTo(TType)}.
+	 */
+	private record ErasureKey(int kind, TType erasure) {
+	}
+
+	private final Map<TType, Integer> fIds= new HashMap<>();
+	private final List<TType> fTypes= new ArrayList<>();
+
+	/** Ids of the super type keys, i.e. of {@link TType}s and {@link ErasureKey}s */
+	private final Map<Object, Integer> fSuperTypeKeyIds= new HashMap<>();
+	/** Proper super type keys by type id, or <code>null</code> if not computed yet */
+	private final List<BitSet> fSuperTypes= new ArrayList<>();
+	/** Sub types of the type declarations (including themselves) by type id, or <code>null</code> if not computed yet */
+	private final List<BitSet> fSubTypes= new ArrayList<>();
+
+	SubTypeClosure() {
+	}
+
+	/**
+	 * Returns the dense id of the given type.
+	 *
+	 * @param type a type of this closure's environment
+	 * @return the id of the type
+	 */
+	public synchronized int getId(TType type) {
+		Integer id= fIds.get(type);
+		if (id != null)
+			return id.intValue();
+		int newId= fTypes.size();
+		fIds.put(type, Integer.valueOf(newId));
+		fTypes.add(type);
+		fSuperTypes.add(null);
+		fSubTypes.add(null);
+		return newId;
+	}
+
+	/**
+	 * Returns the type with the given id.
+	 *
+	 * @param id a type id returned by {@link #getId(TType)}
+	 * @return the type
+	 */
+	public synchronized TType getType(int id) {
+		return fTypes.get(id);
+	}
+
+	/**
+	 * Returns the types with the given ids.
+	 *
+	 * @param ids type ids returned by {@link #getId(TType)}
+	 * @return the types, in the order of their ids
+	 */
+	public synchronized List<TType> getTypes(BitSet ids) {
+		List<TType> result= new ArrayList<>(ids.cardinality());
+		for (int id= ids.nextSetBit(0); id >= 0; id= ids.nextSetBit(id + 1)) {
+			result.add(fTypes.get(id));
+		}
+		return result;
+	}
+
+	/**
+	 * Tells whether <code>type</code> is a proper sub type of <code>other</code>, following
+	 * the same rules as {@link HierarchyType#isSubType(HierarchyType)}.
+	 *
+	 * @param type the candidate sub type
+	 * @param other the candidate super type
+	 * @return <code>true</code> iff <code>other</code> is a proper super type of <code>type</code>
+	 */
+	public synchronized boolean isSubType(HierarchyType type, HierarchyType other) {
+		BitSet superTypeKeys= getSuperTypeKeyIds(type);
+		if (superTypeKeys.get(getSuperTypeKeyId(other)))
+			return true;
+		// generic, raw and parameterized types are equivalent to the other two kinds by their erasure
+		int kind= other.getKind();
+		if (isErasureKind(kind)) {
+			TType erasure= other.getErasure();
+			for (int superTypeKind : new int[] { TType.GENERIC_TYPE, TType.RAW_TYPE, TType.PARAMETERIZED_TYPE }) {
+				if (superTypeKind != kind && superTypeKeys.get(getSuperTypeKeyId(new ErasureKey(superTypeKind, erasure))))
+					return true;
+			}
+		}
+		return false;
+	}
+
+	private BitSet getSuperTypeKeyIds(HierarchyType type) {
+		int id= getId(type);
+		BitSet result= fSuperTypes.get(id);
+		if (result != null)
+			return result;
+
+		result= new BitSet();
+		fSuperTypes.set(id, result); // guards against cycles in erroneous code
+		HierarchyType superclass= (HierarchyType) type.getSuperclass();
+		if (superclass != null) {
+			addSuperType(result, superclass);
+		}
+		for (TType intf : type.getInterfaces()) {
+			addSuperType(result, (HierarchyType) intf);
+		}
+		return result;
+	}
+
+	private void addSuperType(BitSet superTypeKeys, HierarchyType superType) {
+		superTypeKeys.set(getSuperTypeKeyId(superType));
+		int kind= superType.getKind();
+		if (isErasureKind(kind))
+			superTypeKeys.set(getSuperTypeKeyId(new ErasureKey(kind, superType.getErasure())));
+		superTypeKeys.or(getSuperTypeKeyIds(superType));
+	}
+
+	private int getSuperTypeKeyId(Object key) {
+		Integer id= fSuperTypeKeyIds.get(key);
+		if (id == null) {
+			id= Integer.valueOf(fSuperTypeKeyIds.size());
+			fSuperTypeKeyIds.put(key, id);
+		}
+		return id.intValue();
+	}
+
+	private static boolean isErasureKind(int kind) {
+		return kind == TType.GENERIC_TYPE || kind == TType.RAW_TYPE || kind == TType.PARAMETERIZED_TYPE;
+	}
+
+	/**
+	 * Returns the ids of the type declarations of all known sub types of the given type, including
+	 * the declaration of the type itself. This is the bit set equivalent of
+	 * <code>TTypes.getAllSubTypesIterator(type)</code>.
+	 * <p>
+	 * The returned bit set must not be modified.
+	 * </p>
+	 *
+	 * @param type a type
+	 * @return the ids of all sub types
+	 * @throws IllegalStateException if the environment does not remember sub types
+	 */
+	public synchronized BitSet getAllSubTypeIds(TType type) throws IllegalStateException {
+		TType declaration= type.getTypeDeclaration();
+		int id= getId(declaration);
+		BitSet result= fSubTypes.get(id);
+		if (result != null)
+			return result;
+
+		result= new BitSet();
+		fSubTypes.set(id, result);
+		result.set(id);
+		for (TType subType : declaration.getSubTypes()) {
+			result.or(getAllSubTypeIds(subType));
+		}
+		return result;
+	}
+
+	/**
+	 * Forgets the computed sub type sets after a new type joined the environment.
+	 */
+	synchronized void subTypesChanged() {
+		for (int i= 0; i < fSubTypes.size(); i++) {
+			fSubTypes.set(i, null);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -131,6 +131,11 @@ public class TypeEnvironment {
 	 * information was not requested in the constructor.
 	 */
 	private Map<TType, ArrayList<TType>> fSubTypes;
+	/**
+	 * Bit set encoding of the transitive sub type relation, or <code>null</code>
+	 * iff it was not enabled with {@link #enableSubTypeClosure()}.
+	 */
+	private SubTypeClosure fSubTypeClosure;
 	/**
 	 * If <code>true</code>, replace all capture types by their wildcard type.
 	 * @since 3.7
@@ -186,6 +191,25 @@ public class TypeEnvironment {
 		return fSubTypeCache;
 	}
 
+	/**
+	 * Answers sub type questions from a precomputed bit set closure instead of
+	 * walking the hierarchy. Meant for long running computations over many types,
+	 * like the constraint solvers of type refactorings, since the closure is
+	 * kept for the lifetime of this environment.
+	 */
+	public void enableSubTypeClosure() {
+		if (fSubTypeClosure == null)
+			fSubTypeClosure= new SubTypeClosure();
+	}
+
+	/**
+	 * @return the sub type closure, or <code>null</code> if it has not been enabled
+	 * @see #enableSubTypeClosure()
+	 */
+	public SubTypeClosure getSubTypeClosure() {
+		return fSubTypeClosure;
+	}
+
 	public TType create(ITypeBinding binding) {
 		if (binding.isPrimitive()) {
 			return createPrimitiveType(binding);
@@ -305,6 +329,8 @@ public class TypeEnvironment {
 			Assert.isTrue(! subtypes.contains(result));
 		}
 		subtypes.add(result);
+		if (fSubTypeClosure != null)
+			fSubTypeClosure.subTypesChanged();
 	}
 
 	private void cacheSubTypes(TType[] interfaces, TType result) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,9 +13,11 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets;
 
+import java.util.BitSet;
 import java.util.Iterator;
 
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.ArrayType;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.SubTypeClosure;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TType;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints2.TTypes;
 
@@ -244,6 +246,49 @@ public class SubTypesSet extends TypeSet {
 		return fUpperBounds.isSingleton() ? fUpperBounds.anyMember() : null;
 	}
 
+	/**
+	 * Returns the ids of all members of this set in the sub type closure of the type environment.
+	 *
+	 * @param closure the sub type closure
+	 * @return the member ids, or <code>null</code> if this set can not be encoded as a bit set,
+	 *         i.e. if an upper bound is an array type or not a type declaration
+	 */
+	BitSet getMemberIds(SubTypeClosure closure) {
+		if (fUpperBounds.isUniverse())
+			return null;
+		BitSet result= new BitSet();
+		for (Iterator<TType> iter= fUpperBounds.iterator(); iter.hasNext(); ) {
+			TType ub= iter.next();
+			if (ub instanceof ArrayType || !ub.equals(ub.getTypeDeclaration()))
+				return null;
+			result.or(closure.getAllSubTypeIds(ub));
+		}
+		return result;
+	}
+
+	/**
+	 * Intersects two sets of sub types as bit sets, if the type environment has a sub type closure.
+	 *
+	 * @param s1 the first set
+	 * @param s2 the second set
+	 * @return the intersection, or <code>null</code> if it can not be computed on bit sets
+	 */
+	static EnumeratedTypeSet intersect(SubTypesSet s1, SubTypesSet s2) {
+		TType object= s1.getJavaLangObject();
+		SubTypeClosure closure= object != null ? object.getEnvironment().getSubTypeClosure() : null;
+		if (closure == null)
+			return null;
+		BitSet ids1= s1.getMemberIds(closure);
+		if (ids1 == null)
+			return null;
+		BitSet ids2= s2.getMemberIds(closure);
+		if (ids2 == null)
+			return null;
+		BitSet ids= (BitSet) ids1.clone();
+		ids.and(ids2);
+		return new EnumeratedTypeSet(closure.getTypes(ids).iterator(), s1.getTypeSetEnvironment());
+	}
+
 	private EnumeratedTypeSet fEnumCache= null;
 
 	@Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -284,6 +284,9 @@ public class TypeSetIntersection extends TypeSet {
 
 	@Override
 	public EnumeratedTypeSet enumerate() {
+		if (fEnumCache == null && fLHS instanceof SubTypesSet && fRHS instanceof SubTypesSet) {
+			fEnumCache= SubTypesSet.intersect((SubTypesSet) fLHS, (SubTypesSet) fRHS);
+		}
 		if (fEnumCache == null) {
 			EnumeratedTypeSet lhsSet= fLHS.enumerate();
 			EnumeratedTypeSet rhsSet= fRHS.enumerate();
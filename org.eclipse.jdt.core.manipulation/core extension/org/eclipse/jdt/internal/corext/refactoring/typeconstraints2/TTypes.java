@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,7 @@ import java.util.Stack;
 
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.AbstractTypeVariable;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.HierarchyType;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.SubTypeClosure;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TType;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TypeVariable;
 
@@ -113,6 +114,9 @@ public class TTypes {
 	 * @return all subtypes of this type (including this type)
 	 */
 	public static Iterator<TType> getAllSubTypesIterator(TType type) {
+		SubTypeClosure closure= type.getEnvironment().getSubTypeClosure();
+		if (closure != null)
+			return closure.getTypes(closure.getAllSubTypeIds(type)).iterator();
 		return new AllSubtypesIterator(type);
 	}
 
@@ -0,0 +1,253 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+/**
+ * Runs independent per-item tasks, such as those of a refactoring, on a shared pool of worker
+ * threads.
+ * <p>
+ * Results are returned in the order of the input items, so that callers stay deterministic. The
+ * caller's progress monitor is only touched by the calling thread: it is advanced by one unit per
+ * finished item and polled for cancellation while waiting. Each task gets a monitor of its own that
+ * reports the cancellation of the caller's monitor, so that it can stop early. Small inputs, and
+ * inputs of tasks that run on a worker thread themselves, are processed on the calling thread.
+ * </p>
+ * <p>
+ * Tasks must not share mutable state unless it is thread-safe.
+ * </p>
+ */
+public final class ConcurrentTaskRunner {
+
+	/**
+	 * A task that processes one item.
+	 *
+	 * @param <T> the type of the items
+	 * @param <R> the type of the results
+	 */
+	@FunctionalInterface
+	public interface Task<T, R> {
+		/**
+		 * @param item the item to process
+		 * @param pm a monitor to poll for cancellation, must not be used to report progress
+		 * @return the result for the item
+		 * @throws CoreException if the item can not be processed
+		 */
+		R run(T item, IProgressMonitor pm) throws CoreException;
+	}
+
+	/**
+	 * The monitor passed to the tasks of one {@link ConcurrentTaskRunner#map(List, Task, IProgressMonitor)}
+	 * call. It can be polled from any thread.
+	 */
+	private static final class TaskMonitor extends NullProgressMonitor {
+		/** The caller's monitor if the tasks run on the calling thread, else <code>null</code> */
+		private final IProgressMonitor fCaller;
+		private volatile boolean fCanceled;
+
+		TaskMonitor(IProgressMonitor caller) {
+			fCaller= caller;
+		}
+
+		@Override
+		public boolean isCanceled() {
+			return fCanceled || fCaller != null && fCaller.isCanceled();
+		}
+
+		@Override
+		public void setCanceled(boolean canceled) {
+			fCanceled= canceled;
+		}
+	}
+
+	private static final class WorkerThread extends Thread {
+		WorkerThread(Runnable runnable) {
+			super(runnable, "Refactoring Worker-" + fgThreadCount.incrementAndGet()); //$NON-NLS-1$
+			setDaemon(true);
+		}
+	}
+
+	private static final int SEQUENTIAL_THRESHOLD= 16;
+
+	private static final long POLL_INTERVAL= 100;
+
+	/** Seconds after which idle worker threads terminate */
+	private static final long KEEP_ALIVE= 60;
+
+	private static final AtomicInteger fgThreadCount= new AtomicInteger();
+
+	private static ExecutorService fgExecutor;
+
+	/** Inputs with fewer items are processed on the calling thread */
+	private static volatile int fgSequentialThreshold= SEQUENTIAL_THRESHOLD;
+
+	private ConcurrentTaskRunner() {
+		// no instance
+	}
+
+	/**
+	 * Sets the number of items from which inputs are processed on the worker threads. For tests
+	 * that compare the results of both paths.
+	 *
+	 * @param threshold the new threshold, <code>0</code> to use the worker threads for all inputs,
+	 *            also on a single processor, or <code>Integer.MAX_VALUE</code> to process all
+	 *            inputs on the calling thread
+	 * @return the previous threshold
+	 */
+	public static int debugSetSequentialThreshold(int threshold) {
+		int previous= fgSequentialThreshold;
+		fgSequentialThreshold= threshold;
+		return previous;
+	}
+
+	/**
+	 * @return the number of worker threads used for large inputs
+	 */
+	public static int getParallelism() {
+		return Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+	}
+
+	private static synchronized ExecutorService getExecutor() {
+		if (fgExecutor == null) {
+			int parallelism= getParallelism();
+			ThreadPoolExecutor executor= new ThreadPoolExecutor(parallelism, parallelism, KEEP_ALIVE, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), WorkerThread::new);
+			executor.allowCoreThreadTimeOut(true);
+			fgExecutor= executor;
+		}
+		return fgExecutor;
+	}
+
+	/**
+	 * Tells whether an input of the given size is processed on the calling thread. This is the case
+	 * for small inputs, on a single processor, and on the worker threads themselves, where waiting
+	 * for other tasks could block the pool.
+	 *
+	 * @param size the number of items of the input
+	 * @return <code>true</code> if the input should not be handed to the worker threads
+	 */
+	public static boolean isSequential(int size) {
+		int threshold= fgSequentialThreshold;
+		return size < threshold || threshold > 0 && getParallelism() < 2 || Thread.currentThread() instanceof WorkerThread;
+	}
+
+	/**
+	 * Runs a task on the shared worker threads, for clients that consume the results one by one
+	 * instead of through {@link #map(List, Task, IProgressMonitor)}. Clients should check
+	 * {@link #isSequential(int)} first, and must not interrupt the returned future's thread when
+	 * canceling it, since the thread is shared.
+	 *
+	 * @param task the task to run
+	 * @return the future result of the task
+	 */
+	public static <R> Future<R> submit(Callable<R> task) {
+		return getExecutor().submit(task);
+	}
+
+	/**
+	 * Applies the task to all items.
+	 *
+	 * @param items the items to process
+	 * @param task the task to run for each item
+	 * @param pm the progress monitor, advanced by one unit per item, or <code>null</code>
+	 * @return the results, in the order of the items
+	 * @throws CoreException the first exception thrown by a task, in item order
+	 * @throws OperationCanceledException if the monitor got canceled
+	 */
+	public static <T, R> List<R> map(List<T> items, Task<T, R> task, IProgressMonitor pm) throws CoreException {
+		if (pm == null)
+			pm= new NullProgressMonitor();
+		// tasks on worker threads must not wait for other tasks, which may be queued behind them
+		if (isSequential(items.size())) {
+			TaskMonitor taskMonitor= new TaskMonitor(pm);
+			List<R> result= new ArrayList<>(items.size());
+			for (T item : items) {
+				if (pm.isCanceled())
+					throw new OperationCanceledException();
+				result.add(task.run(item, taskMonitor));
+				pm.worked(1);
+			}
+			return result;
+		}
+
+		TaskMonitor taskMonitor= new TaskMonitor(null);
+		ExecutorService executor= getExecutor();
+		List<Future<R>> futures= new ArrayList<>(items.size());
+		try {
+			for (T item : items) {
+				futures.add(executor.submit(() -> {
+					if (taskMonitor.isCanceled())
+						throw new OperationCanceledException();
+					return task.run(item, taskMonitor);
+				}));
+			}
+			List<R> result= new ArrayList<>(items.size());
+			for (Future<R> future : futures) {
+				result.add(await(future, pm, taskMonitor));
+				pm.worked(1);
+			}
+			return result;
+		} finally {
+			// stops the remaining tasks after a failure or cancellation, the pool is shared
+			taskMonitor.setCanceled(true);
+			for (Future<R> future : futures) {
+				future.cancel(false);
+			}
+		}
+	}
+
+	private static <R> R await(Future<R> future, IProgressMonitor pm, TaskMonitor taskMonitor) throws CoreException {
+		while (true) {
+			if (pm.isCanceled()) {
+				taskMonitor.setCanceled(true);
+				throw new OperationCanceledException();
+			}
+			try {
+				return future.get(POLL_INTERVAL, TimeUnit.MILLISECONDS);
+			} catch (TimeoutException e) {
+				// poll for cancellation again
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new OperationCanceledException();
+			} catch (CancellationException e) {
+				throw new OperationCanceledException();
+			} catch (ExecutionException e) {
+				Throwable cause= e.getCause();
+				if (cause instanceof CoreException)
+					throw (CoreException) cause;
+				if (cause instanceof RuntimeException)
+					throw (RuntimeException) cause;
+				if (cause instanceof Error)
+					throw (Error) cause;
+				throw new IllegalStateException(cause);
+			}
+		}
+	}
+}
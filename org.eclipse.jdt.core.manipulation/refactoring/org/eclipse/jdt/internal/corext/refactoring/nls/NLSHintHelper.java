@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,26 +13,15 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.refactoring.nls;
 
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 
-import org.eclipse.core.runtime.CoreException;
-
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IStorage;
 
-import org.eclipse.core.filebuffers.FileBuffers;
-import org.eclipse.core.filebuffers.ITextFileBuffer;
-import org.eclipse.core.filebuffers.ITextFileBufferManager;
-import org.eclipse.core.filebuffers.LocationKind;
-
-import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.IRegion;
 import org.eclipse.jface.text.Region;
 
@@ -69,8 +58,6 @@ import org.eclipse.jdt.core.manipulation.SharedASTProviderCore;
 import org.eclipse.jdt.internal.corext.dom.Bindings;
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
 
-import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
-
 public class NLSHintHelper {
 
 	private NLSHintHelper() {
@@ -442,37 +429,7 @@ public class NLSHintHelper {
 		if (storage == null)
 			return null;
 
-		Properties props= new Properties();
-		InputStream is= null;
-
-		ITextFileBufferManager manager= FileBuffers.getTextFileBufferManager();
-		try {
-			if (manager != null) {
-				ITextFileBuffer buffer= manager.getTextFileBuffer(storage.getFullPath(), LocationKind.NORMALIZE);
-				if (buffer != null) {
-					IDocument document= buffer.getDocument();
-					is= new ByteArrayInputStream(document.get().getBytes());
-				}
-			}
-
-			// Fallback: read from storage
-			if (is == null)
-				is= storage.getContents();
-
-			props.load(is);
-
-		} catch (IOException | CoreException e) {
-			// sorry no properties
-			return null;
-		} finally {
-			if (is != null) try {
-				is.close();
-			} catch (IOException e) {
-				// return properties anyway but log
-				JavaManipulationPlugin.log(e);
-			}
-		}
-		return props;
+		return PropertiesFileCache.getProperties(storage);
 	}
 
 }
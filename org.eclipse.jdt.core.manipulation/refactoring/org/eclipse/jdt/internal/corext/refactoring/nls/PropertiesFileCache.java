@@ -0,0 +1,337 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.nls;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.WeakHashMap;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IStorage;
+
+import org.eclipse.core.filebuffers.FileBuffers;
+import org.eclipse.core.filebuffers.ITextFileBuffer;
+import org.eclipse.core.filebuffers.ITextFileBufferManager;
+import org.eclipse.core.filebuffers.LocationKind;
+
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension4;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.Region;
+
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
+
+/**
+ * Caches the contents of properties files read for NLS hovers, hints and hyperlinks.
+ * <p>
+ * The properties of a storage are read from its file buffer if there is one, else from the
+ * storage. They are cached until the document's or file's modification stamp changes. Storages
+ * other than files are not cached unless they have a file buffer.
+ * </p>
+ * <p>
+ * The offsets of the keys in a properties file document are indexed as well, so that a key can be
+ * revealed without searching the document for it.
+ * </p>
+ *
+ * @see NLSHintHelper#getProperties(IStorage)
+ * @since 1.20
+ */
+public final class PropertiesFileCache {
+
+	private static final class PropertiesEntry {
+		/** The document the properties were read from, or <code>null</code> if read from the file */
+		final WeakReference<IDocument> fDocument;
+		final long fStamp;
+		final Properties fProperties;
+
+		PropertiesEntry(IDocument document, long stamp, Properties properties) {
+			fDocument= document != null ? new WeakReference<>(document) : null;
+			fStamp= stamp;
+			fProperties= properties;
+		}
+
+		boolean isValid(IDocument document, long stamp) {
+			if (fStamp != stamp)
+				return false;
+			return fDocument == null ? document == null : fDocument.get() == document;
+		}
+	}
+
+	private static final class KeyIndex {
+		final long fStamp;
+		final Map<String, IRegion> fKeyRegions;
+
+		KeyIndex(long stamp, Map<String, IRegion> keyRegions) {
+			fStamp= stamp;
+			fKeyRegions= keyRegions;
+		}
+	}
+
+	private static final int CACHE_SIZE= 32;
+
+	private static final Map<IPath, PropertiesEntry> fgProperties= new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<IPath, PropertiesEntry> eldest) {
+			return size() > CACHE_SIZE;
+		}
+	};
+
+	private static final Map<IDocument, KeyIndex> fgKeyIndexes= new WeakHashMap<>();
+
+	private PropertiesFileCache() {
+	}
+
+	/**
+	 * Reads the properties from the given storage, or returns the cached ones if the storage has not
+	 * changed since it was last read.
+	 *
+	 * @param storage the storage
+	 * @return a copy of the properties, or <code>null</code> if they could not be read
+	 */
+	public static Properties getProperties(IStorage storage) {
+		IPath path= storage.getFullPath();
+		IDocument document= null;
+		ITextFileBufferManager manager= FileBuffers.getTextFileBufferManager();
+		if (manager != null && path != null) {
+			ITextFileBuffer buffer= manager.getTextFileBuffer(path, LocationKind.NORMALIZE);
+			if (buffer != null)
+				document= buffer.getDocument();
+		}
+
+		long stamp;
+		if (document != null) {
+			stamp= document instanceof IDocumentExtension4 ? ((IDocumentExtension4) document).getModificationStamp() : IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+		} else if (storage instanceof IFile) {
+			stamp= ((IFile) storage).getModificationStamp();
+			if (stamp == IResource.NULL_STAMP)
+				stamp= IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+		} else {
+			stamp= IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+		}
+		boolean isCacheable= path != null && stamp != IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+
+		if (isCacheable) {
+			synchronized (fgProperties) {
+				PropertiesEntry entry= fgProperties.get(path);
+				if (entry != null && entry.isValid(document, stamp))
+					return (Properties) entry.fProperties.clone();
+			}
+		}
+
+		Properties props= load(storage, document);
+		if (props != null && isCacheable) {
+			synchronized (fgProperties) {
+				fgProperties.put(path, new PropertiesEntry(document, stamp, props));
+			}
+			return (Properties) props.clone();
+		}
+		return props;
+	}
+
+	private static Properties load(IStorage storage, IDocument document) {
+		Properties props= new Properties();
+		InputStream is= null;
+		try {
+			if (document != null)
+				is= new ByteArrayInputStream(document.get().getBytes());
+			else
+				is= storage.getContents();
+
+			props.load(is);
+
+		} catch (IOException | CoreException e) {
+			// sorry no properties
+			return null;
+		} finally {
+			if (is != null) try {
+				is.close();
+			} catch (IOException e) {
+				// return properties anyway but log
+				JavaManipulationPlugin.log(e);
+			}
+		}
+		return props;
+	}
+
+	/**
+	 * Removes all cached properties and key indexes.
+	 */
+	public static void clear() {
+		synchronized (fgProperties) {
+			fgProperties.clear();
+		}
+		synchronized (fgKeyIndexes) {
+			fgKeyIndexes.clear();
+		}
+	}
+
+	/**
+	 * Returns the region of the given key in a properties file document. If a key is defined more
+	 * than once, the last definition is returned, as it is the one that takes effect.
+	 *
+	 * @param document the properties file document
+	 * @param key the unescaped key
+	 * @return the region of the escaped key in the document, or <code>null</code> if the key is
+	 *         not defined
+	 */
+	public static IRegion getKeyRegion(IDocument document, String key) {
+		long stamp= document instanceof IDocumentExtension4 ? ((IDocumentExtension4) document).getModificationStamp() : IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+		if (stamp == IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP)
+			return indexKeys(document.get()).get(key);
+
+		KeyIndex index;
+		synchronized (fgKeyIndexes) {
+			index= fgKeyIndexes.get(document);
+		}
+		if (index == null || index.fStamp != stamp) {
+			index= new KeyIndex(stamp, indexKeys(document.get()));
+			synchronized (fgKeyIndexes) {
+				fgKeyIndexes.put(document, index);
+			}
+		}
+		return index.fKeyRegions.get(key);
+	}
+
+	/**
+	 * Finds the keys of the given properties file content, following the syntax of
+	 * {@link Properties#load(java.io.Reader)}.
+	 *
+	 * @param text the content of a properties file
+	 * @return the regions of the (escaped) keys, by unescaped key
+	 */
+	static Map<String, IRegion> indexKeys(String text) {
+		Map<String, IRegion> result= new HashMap<>();
+		int length= text.length();
+		int i= 0;
+		while (i < length) {
+			i= skipWhiteSpace(text, i);
+			if (i >= length)
+				break;
+			char c= text.charAt(i);
+			if (c == '\r' || c == '\n') {
+				i++;
+				continue;
+			}
+			if (c == '#' || c == '!') {
+				// comments are never continued
+				while (i < length && text.charAt(i) != '\r' && text.charAt(i) != '\n')
+					i++;
+				continue;
+			}
+
+			int keyStart= i;
+			StringBuilder key= new StringBuilder();
+			while (i < length) {
+				c= text.charAt(i);
+				if (c == '\\') {
+					if (isLineContinuation(text, i)) {
+						i= skipWhiteSpace(text, skipEscapedLineEnd(text, i));
+					} else {
+						i= unescape(text, i, key);
+					}
+				} else if (c == '=' || c == ':' || c == ' ' || c == '\t' || c == '\f' || c == '\r' || c == '\n') {
+					break;
+				} else {
+					key.append(c);
+					i++;
+				}
+			}
+			result.put(key.toString(), new Region(keyStart, i - keyStart));
+
+			// skip the value
+			while (i < length) {
+				c= text.charAt(i);
+				if (c == '\\') {
+					i= isLineContinuation(text, i) ? skipEscapedLineEnd(text, i) : i + 2;
+				} else if (c == '\r' || c == '\n') {
+					break;
+				} else {
+					i++;
+				}
+			}
+		}
+		return result;
+	}
+
+	private static int skipWhiteSpace(String text, int i) {
+		while (i < text.length()) {
+			char c= text.charAt(i);
+			if (c != ' ' && c != '\t' && c != '\f')
+				break;
+			i++;
+		}
+		return i;
+	}
+
+	private static boolean isLineContinuation(String text, int backslash) {
+		if (backslash + 1 >= text.length())
+			return true; // a trailing backslash is dropped
+		char next= text.charAt(backslash + 1);
+		return next == '\r' || next == '\n';
+	}
+
+	private static int skipEscapedLineEnd(String text, int backslash) {
+		int i= backslash + 1;
+		if (i < text.length() && text.charAt(i) == '\r')
+			i++;
+		if (i < text.length() && text.charAt(i) == '\n')
+			i++;
+		return i;
+	}
+
+	private static int unescape(String text, int backslash, StringBuilder result) {
+		char c= text.charAt(backslash + 1);
+		switch (c) {
+			case 't':
+				result.append('\t');
+				break;
+			case 'n':
+				result.append('\n');
+				break;
+			case 'r':
+				result.append('\r');
+				break;
+			case 'f':
+				result.append('\f');
+				break;
+			case 'u':
+				if (backslash + 6 <= text.length()) {
+					try {
+						result.append((char) Integer.parseInt(text.substring(backslash + 2, backslash + 6), 16));
+						return backslash + 6;
+					} catch (NumberFormatException e) {
+						// malformed, keep the characters
+					}
+				}
+				result.append(c);
+				break;
+			default:
+				result.append(c);
+				break;
+		}
+		return backslash + 2;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,7 +16,10 @@ package org.eclipse.jdt.internal.corext.refactoring.nls;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 import java.text.Collator;
 
@@ -37,9 +40,28 @@ import org.eclipse.jdt.internal.corext.util.Messages;
 
 import org.eclipse.jdt.internal.ui.propertiesfileeditor.PropertiesFileEscapes;
 
+/**
+ * Model of the key value pairs of a properties file document, used to compute the edits that add,
+ * remove or replace pairs.
+ * <p>
+ * The pairs are kept in document order in a linked list. They are indexed by key, and their keys
+ * are kept sorted, so that the insertion position of a new pair can be found among the few pairs
+ * with the longest common key prefix instead of among all pairs.
+ * </p>
+ */
 public class PropertyFileDocumentModel {
 
-	private List<KeyValuePairModell> fKeyValuePairs;
+	/** Gap between the order numbers of successive pairs after (re-)numbering */
+	private static final long ORDER_GAP= 1L << 20;
+
+	/** The first pair in document order, the {@link LastKeyValuePair} if there are no pairs */
+	private KeyValuePairModell fFirst;
+	private LastKeyValuePair fLast;
+	/** The first pair in document order with a given key */
+	private Map<String, KeyValuePairModell> fFirstByKey;
+	/** All pairs except the anchor, by key in natural string order */
+	private TreeMap<String, List<KeyValuePairModell>> fSortedKeys;
+	private int fMaxKeyLength;
 	private String fLineDelimiter;
 
 	public PropertyFileDocumentModel(IDocument document) {
@@ -61,18 +83,13 @@ public class PropertyFileDocumentModel {
 	 * @return the pair with the key or <b>null</b> if no such pair.
 	 */
 	public KeyValuePair getKeyValuePair(String key) {
-		for (KeyValuePairModell keyValuePair : fKeyValuePairs) {
-			if (keyValuePair.getKey().equals(key)) {
-				return keyValuePair;
-			}
-		}
-		return null;
+		return fFirstByKey.get(key);
 	}
 
-	private InsertEdit insert(KeyValuePair keyValuePair) {
+	private InsertEdit insert(KeyValuePair keyValuePair, Collator collator) {
 		KeyValuePairModell keyValuePairModell = new KeyValuePairModell(keyValuePair);
-		int index = findInsertPosition(keyValuePairModell);
-		KeyValuePairModell insertHere = fKeyValuePairs.get(index);
+		KeyValuePairModell insertAfter = findInsertPosition(keyValuePairModell, collator);
+		KeyValuePairModell insertHere = insertAfter != null ? insertAfter.fNext : fFirst;
 		int offset = insertHere.fOffset;
 
 		String extra= ""; //$NON-NLS-1$
@@ -80,14 +97,14 @@ public class PropertyFileDocumentModel {
 			extra= fLineDelimiter;
 			((LastKeyValuePair)insertHere).resetNeedsNewLine();
 			offset-= insertHere.fLeadingWhiteSpaces;
-		} else if (index > 0) {
-			String beforeKey= fKeyValuePairs.get(index - 1).fKey;
+		} else if (insertAfter != null) {
+			String beforeKey= insertAfter.fKey;
 			String afterKey= insertHere.fKey;
 			String key= keyValuePair.fKey;
 			int distBefore= NLSUtil.invertDistance(key, beforeKey);
 			int distAfter= NLSUtil.invertDistance(key, afterKey);
 			if (distBefore > distAfter
-					|| (distBefore == distAfter && Collator.getInstance().compare(beforeKey, afterKey) < 0)) {
+					|| (distBefore == distAfter && collator.compare(beforeKey, afterKey) < 0)) {
 				offset-= insertHere.fLeadingWhiteSpaces;
 			} else {
 				//insert it before afterKey -> move the leading white spaces to the inserted pair
@@ -99,7 +116,7 @@ public class PropertyFileDocumentModel {
 		String text= extra + keyValuePairModell.getKeyValueText();
 		keyValuePairModell.fOffset= offset;
 		keyValuePairModell.fLength= text.length();
-		fKeyValuePairs.add(index, keyValuePairModell);
+		linkBefore(keyValuePairModell, insertHere);
 		return new InsertEdit(offset, text);
 	}
 
@@ -111,12 +128,13 @@ public class PropertyFileDocumentModel {
 	 * @param change the change to use to record text changes
 	 */
 	public void insert(KeyValuePair[] keyValuePairs, TextChange change) {
+		Collator collator= Collator.getInstance();
 
 		ArrayList<KeyValuePair> sorted= new ArrayList<>(Arrays.asList(keyValuePairs));
-		Collections.sort(sorted, (p1, p2) -> Collator.getInstance().compare(p1.fKey, p2.fKey));
+		Collections.sort(sorted, (p1, p2) -> collator.compare(p1.fKey, p2.fKey));
 
 		for (KeyValuePair curr : sorted) {
-			InsertEdit insertEdit= insert(curr);
+			InsertEdit insertEdit= insert(curr, collator);
 
 			String message= Messages.format(NLSMessages.NLSPropertyFileModifier_add_entry, BasicElementLabels.getJavaElementName(curr.getKey()));
 			TextChangeCompatibility.addTextEdit(change, message, insertEdit);
@@ -124,42 +142,114 @@ public class PropertyFileDocumentModel {
 	}
 
 	public DeleteEdit remove(String key) {
-		for (KeyValuePairModell keyValuePair : fKeyValuePairs) {
-			if (keyValuePair.fKey.equals(key)) {
-				return new DeleteEdit(keyValuePair.fOffset, keyValuePair.getLength());
-			}
+		KeyValuePairModell keyValuePair= fFirstByKey.get(key);
+		if (keyValuePair != null) {
+			return new DeleteEdit(keyValuePair.fOffset, keyValuePair.getLength());
 		}
 		return null;
 	}
 
 	public ReplaceEdit replace(KeyValuePair toReplace, KeyValuePair replaceWith) {
-		for (KeyValuePairModell keyValuePair : fKeyValuePairs) {
-			if (keyValuePair.fKey.equals(toReplace.getKey())) {
-				String newText= new KeyValuePairModell(replaceWith).getKeyValueText();
-				return new ReplaceEdit(keyValuePair.fOffset, keyValuePair.getLength(), newText);
-			}
+		KeyValuePairModell keyValuePair= fFirstByKey.get(toReplace.getKey());
+		if (keyValuePair != null) {
+			String newText= new KeyValuePairModell(replaceWith).getKeyValueText();
+			return new ReplaceEdit(keyValuePair.fOffset, keyValuePair.getLength(), newText);
 		}
 		return null;
 	}
 
-	private int findInsertPosition(KeyValuePairModell keyValuePair) {
-		ArrayList<String> keys= new ArrayList<>();
-		for (KeyValuePairModell keyValuePairmodel : fKeyValuePairs) {
-			KeyValuePairModell element= keyValuePairmodel;
-			if (! (element instanceof LastKeyValuePair))
-				keys.add(element.getKey());
+	/**
+	 * Finds the pair after which the given pair is inserted. This is the position computed by
+	 * {@link NLSUtil#getInsertionPosition(String, List)} for the keys of all pairs in document
+	 * order.
+	 * <p>
+	 * Only the pairs with the highest {@link NLSUtil#invertDistance(String, String)} influence that
+	 * position, and they are among the pairs that share the longest common prefix with the key.
+	 * </p>
+	 *
+	 * @param keyValuePair the pair to insert
+	 * @param collator the collator to compare keys with
+	 * @return the pair after which to insert, or <code>null</code> to insert before the first pair
+	 */
+	private KeyValuePairModell findInsertPosition(KeyValuePairModell keyValuePair, Collator collator) {
+		String key= keyValuePair.getKey();
+		if (fSortedKeys.isEmpty())
+			return null; // before the anchor
+
+		List<KeyValuePairModell> candidates;
+		if (fMaxKeyLength - key.length() >= 1 << 16) {
+			// length penalties could outweigh the prefix match, consider all pairs
+			candidates= new ArrayList<>();
+			for (List<KeyValuePairModell> pairs : fSortedKeys.values())
+				candidates.addAll(pairs);
+		} else {
+			candidates= getCandidates(key);
+		}
+
+		int maxDistance= Integer.MIN_VALUE;
+		List<KeyValuePairModell> closest= new ArrayList<>();
+		for (KeyValuePairModell candidate : candidates) {
+			int distance= NLSUtil.invertDistance(key, candidate.fKey);
+			if (distance > maxDistance) {
+				maxDistance= distance;
+				closest.clear();
+			}
+			if (distance == maxDistance)
+				closest.add(candidate);
 		}
-		int insertIndex= NLSUtil.getInsertionPosition(keyValuePair.getKey(), keys);
+		closest.sort((p1, p2) -> Long.compare(p1.fOrder, p2.fOrder));
+
+		// the first closest pair in document order decides whether to insert before or after it,
+		// the following ones move the position behind them if the key is not smaller
+		KeyValuePairModell first= closest.get(0);
+		KeyValuePairModell result= collator.compare(key, first.fKey) >= 0 ? first : first.fPrevious;
+		for (int i= 1; i < closest.size(); i++) {
+			KeyValuePairModell curr= closest.get(i);
+			if (collator.compare(key, curr.fKey) >= 0)
+				result= curr;
+		}
+		return result;
+	}
 
-		if (insertIndex < fKeyValuePairs.size() - 1) {
-			insertIndex++;
+	private List<KeyValuePairModell> getCandidates(String key) {
+		// the keys sharing the longest prefix with key are next to it in natural order
+		int prefixLength= 0;
+		String floor= fSortedKeys.floorKey(key);
+		if (floor != null)
+			prefixLength= getCommonPrefixLength(key, floor);
+		String ceiling= fSortedKeys.ceilingKey(key);
+		if (ceiling != null)
+			prefixLength= Math.max(prefixLength, getCommonPrefixLength(key, ceiling));
+
+		List<KeyValuePairModell> candidates= new ArrayList<>();
+		String prefix= key.substring(0, prefixLength);
+		for (Map.Entry<String, List<KeyValuePairModell>> entry : fSortedKeys.tailMap(prefix, true).entrySet()) {
+			if (!entry.getKey().startsWith(prefix))
+				break;
+			candidates.addAll(entry.getValue());
 		}
+		if (prefixLength > 0) {
+			// an existing key followed by a separator in key ranks one higher than its length
+			List<KeyValuePairModell> shorter= fSortedKeys.get(key.substring(0, prefixLength - 1));
+			if (shorter != null)
+				candidates.addAll(shorter);
+		}
+		return candidates;
+	}
 
-		return insertIndex;
+	private static int getCommonPrefixLength(String s1, String s2) {
+		int length= Math.min(s1.length(), s2.length());
+		for (int i= 0; i < length; i++) {
+			if (s1.charAt(i) != s2.charAt(i))
+				return i;
+		}
+		return length;
 	}
 
 	private void parsePropertyDocument(IDocument document) {
-		fKeyValuePairs = new ArrayList<>();
+		fFirstByKey= new HashMap<>();
+		fSortedKeys= new TreeMap<>();
+		List<KeyValuePairModell> keyValuePairs= new ArrayList<>();
 
 		SimpleLineReader reader = new SimpleLineReader(document);
 		int offset = 0;
@@ -174,7 +264,7 @@ public class PropertyFileDocumentModel {
 					String value= line.substring(idx + 1);
 					String trimmedValue= Strings.trimLeadingTabsAndSpaces(value);
 					int length= key.length() + 1 + value.length();
-					fKeyValuePairs.add(new KeyValuePairModell(trimmedKey, trimmedValue, offset, length, leadingWhiteSpaces));
+					keyValuePairs.add(new KeyValuePairModell(trimmedKey, trimmedValue, offset, length, leadingWhiteSpaces));
 					leadingWhiteSpaces = 0;
 				}
 			} else {
@@ -190,8 +280,60 @@ public class PropertyFileDocumentModel {
 		} catch (BadLocationException ignore) {
 			// treat last line having no new line
 		}
-		LastKeyValuePair lastKeyValuePair = new LastKeyValuePair(offset, needsNewLine);
-		fKeyValuePairs.add(lastKeyValuePair);
+		fLast= new LastKeyValuePair(offset, needsNewLine);
+		keyValuePairs.add(fLast);
+
+		KeyValuePairModell previous= null;
+		for (KeyValuePairModell keyValuePair : keyValuePairs) {
+			keyValuePair.fPrevious= previous;
+			if (previous != null)
+				previous.fNext= keyValuePair;
+			previous= keyValuePair;
+		}
+		fFirst= keyValuePairs.get(0);
+		renumber();
+		for (KeyValuePairModell keyValuePair : keyValuePairs) {
+			if (keyValuePair != fLast)
+				addToIndex(keyValuePair);
+		}
+	}
+
+	private void linkBefore(KeyValuePairModell keyValuePair, KeyValuePairModell next) {
+		KeyValuePairModell previous= next.fPrevious;
+		keyValuePair.fPrevious= previous;
+		keyValuePair.fNext= next;
+		next.fPrevious= keyValuePair;
+		if (previous != null) {
+			previous.fNext= keyValuePair;
+		} else {
+			fFirst= keyValuePair;
+		}
+
+		if (previous == null) {
+			keyValuePair.fOrder= next.fOrder - ORDER_GAP;
+		} else if (next.fOrder - previous.fOrder > 1) {
+			keyValuePair.fOrder= previous.fOrder + (next.fOrder - previous.fOrder) / 2;
+		} else {
+			renumber();
+		}
+		addToIndex(keyValuePair);
+	}
+
+	private void renumber() {
+		long order= 0;
+		for (KeyValuePairModell curr= fFirst; curr != null; curr= curr.fNext) {
+			curr.fOrder= order;
+			order+= ORDER_GAP;
+		}
+	}
+
+	private void addToIndex(KeyValuePairModell keyValuePair) {
+		String key= keyValuePair.fKey;
+		KeyValuePairModell first= fFirstByKey.get(key);
+		if (first == null || keyValuePair.fOrder < first.fOrder)
+			fFirstByKey.put(key, keyValuePair);
+		fSortedKeys.computeIfAbsent(key, k -> new ArrayList<>(1)).add(keyValuePair);
+		fMaxKeyLength= Math.max(fMaxKeyLength, key.length());
 	}
 
 	private int getIndexOfSeparationCharacter(String line) {
@@ -271,6 +413,10 @@ public class PropertyFileDocumentModel {
 		int fOffset;
 		int fLength;
 		int fLeadingWhiteSpaces;
+		/** Position in document order, increasing along {@link #fNext} */
+		long fOrder;
+		KeyValuePairModell fPrevious;
+		KeyValuePairModell fNext;
 
 		public KeyValuePairModell(String key, String value, int offset, int length, int leadingWhiteSpaces) {
 			super(key, value);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -73,6 +73,10 @@ public class RefactoringScanner {
 	public void scan(ICompilationUnit cu)	throws JavaModelException {
 		char[] chars= cu.getBuffer().getCharacters();
 		fMatches= new HashSet<>();
+		if (chars == null || !contains(chars, fName)) {
+			// cheap pre-check: no need to tokenize a unit that cannot contain a match
+			return;
+		}
 		IJavaProject javaProject= cu.getJavaProject();
         if (javaProject != null) {
             String sourceLevel = javaProject.getOption(JavaCore.COMPILER_SOURCE, true);
@@ -128,6 +132,24 @@ public class RefactoringScanner {
 		}
 	}
 
+	private static boolean contains(char[] chars, String name) {
+		int length= name.length();
+		if (length == 0)
+			return true;
+		char first= name.charAt(0);
+		int last= chars.length - length;
+		outer: for (int i= 0; i <= last; i++) {
+			if (chars[i] != first)
+				continue;
+			for (int j= 1; j < length; j++) {
+				if (chars[i + j] != name.charAt(j))
+					continue outer;
+			}
+			return true;
+		}
+		return false;
+	}
+
 	private static boolean isWholeWord(String value, int from, int to){
 		if (from > 0) {
 			char ch= value.charAt(from - 1);
@@ -38,6 +38,7 @@ import org.eclipse.core.runtime.Plugin;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.preferences.InstanceScope;
 
+import org.eclipse.jdt.internal.junit.launcher.TestTypeIndex;
 import org.eclipse.jdt.internal.junit.model.JUnitModel;
 
 /**
@@ -133,6 +134,7 @@ public class JUnitCorePlugin extends Plugin {
 		super.start(context);
 		fBundleContext= context;
 		fJUnitModel.start();
+		TestTypeIndex.getDefault().start();
 	}
 
 	/**
@@ -144,6 +146,7 @@ public class JUnitCorePlugin extends Plugin {
 		try {
 			InstanceScope.INSTANCE.getNode(JUnitCorePlugin.CORE_PLUGIN_ID).flush();
 			fJUnitModel.stop();
+			TestTypeIndex.getDefault().stop();
 		} finally {
 			super.stop(context);
 		}
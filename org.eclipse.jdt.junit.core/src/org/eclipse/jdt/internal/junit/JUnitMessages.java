@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -61,6 +61,7 @@ public final class JUnitMessages extends NLS {
 	public static String JUnitLaunchConfigurationDelegate_verifying_attriburtes_description;
 
 	public static String TestRunSession_unrootedTests;
+	public static String TestTypeIndex_reindex_job_name;
 
 	public static String TestSearchEngine_message_searching;
 
@@ -39,7 +39,9 @@ public class TestKind implements ITestKind {
 	public ITestFinder getFinder() {
 		if (fFinder == null) {
 			try {
-				fFinder= (ITestFinder) fElement.createExecutableExtension(FINDER_CLASS_NAME);
+				ITestFinder finder= (ITestFinder) fElement.createExecutableExtension(FINDER_CLASS_NAME);
+				String id= getId();
+				fFinder= id != null ? new TestTypeIndex.IndexedTestFinder(id, finder) : finder;
 			} catch (CoreException e1) {
 				JUnitCorePlugin.log(e1);
 				fFinder= ITestFinder.NULL;
@@ -0,0 +1,557 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.launcher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.Flags;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+
+import org.eclipse.jdt.internal.junit.JUnitMessages;
+
+/**
+ * Per-project index of the test types found by the contributed {@link ITestFinder}s, keyed by
+ * test kind id.
+ * <p>
+ * Results of {@link ITestFinder#findTestsInContainer(IJavaElement, Set, IProgressMonitor)} and
+ * {@link ITestFinder#isTest(IType)} are remembered until a Java element delta reports a change
+ * that may affect them, and are searched again on their next use. Changes of method bodies are
+ * ignored, as they do not make a type a test or not. Other changes of a compilation unit drop the
+ * results for the unit and for the containers that contain it. Since tests inherit their test
+ * methods and annotations, a change that may affect the sub types of a type (e.g. a changed
+ * non-final type or a removed unit) also drops the results of its project and of the projects
+ * requiring it, as does a change of a project or its class path. Containers whose results were
+ * dropped are searched again by a background job, so that the next launch finds them ready.
+ * </p>
+ * <p>
+ * Unsaved changes of compilation units open in editors are not reported by resource deltas, so
+ * the index is bypassed for types and containers with such changes.
+ * </p>
+ */
+public final class TestTypeIndex implements IElementChangedListener {
+
+	private static final long REINDEX_DELAY= 1000;
+
+	/** Maximum number of cached {@link ITestFinder#isTest(IType)} answers per project and test kind */
+	private static final int MAX_TYPES= 1000;
+
+	private static final TestTypeIndex fgDefault= new TestTypeIndex();
+
+	public static TestTypeIndex getDefault() {
+		return fgDefault;
+	}
+
+	private static final class ProjectIndex {
+		final Map<String, Map<IJavaElement, IType[]>> fContainerTests= new HashMap<>();
+		final Map<String, Map<IType, Boolean>> fIsTest= new HashMap<>();
+
+		Map<IType, Boolean> getIsTest(String kindId) {
+			return fIsTest.computeIfAbsent(kindId, k -> new LinkedHashMap<>(16, 0.75f, true) {
+				private static final long serialVersionUID= 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<IType, Boolean> eldest) {
+					return size() > MAX_TYPES;
+				}
+			});
+		}
+
+		/**
+		 * Removes the results for the given compilation unit or class file and for the containers
+		 * that contain it.
+		 *
+		 * @param openable the changed compilation unit or class file
+		 * @param removed collects the kind ids and containers of the removed searches
+		 */
+		void removeOpenable(IJavaElement openable, Map<String, Set<IJavaElement>> removed) {
+			for (Map.Entry<String, Map<IJavaElement, IType[]>> entry : fContainerTests.entrySet()) {
+				entry.getValue().keySet().removeIf(container -> {
+					if (isAncestorOrSelf(container, openable) || isAncestorOrSelf(openable, container)) {
+						removed.computeIfAbsent(entry.getKey(), k -> new HashSet<>()).add(container);
+						return true;
+					}
+					return false;
+				});
+			}
+			for (Map<IType, Boolean> types : fIsTest.values()) {
+				types.keySet().removeIf(type -> openable.equals(type.getOpenable()));
+			}
+		}
+
+		boolean isEmpty() {
+			for (Map<IJavaElement, IType[]> containers : fContainerTests.values()) {
+				if (!containers.isEmpty())
+					return false;
+			}
+			for (Map<IType, Boolean> types : fIsTest.values()) {
+				if (!types.isEmpty())
+					return false;
+			}
+			return true;
+		}
+
+		void collectContainers(Map<String, Set<IJavaElement>> removed) {
+			for (Map.Entry<String, Map<IJavaElement, IType[]>> entry : fContainerTests.entrySet()) {
+				removed.computeIfAbsent(entry.getKey(), k -> new HashSet<>()).addAll(entry.getValue().keySet());
+			}
+		}
+	}
+
+	private static final class ReindexRequest {
+		final String fKindId;
+		final IJavaElement fContainer;
+
+		ReindexRequest(String kindId, IJavaElement container) {
+			fKindId= kindId;
+			fContainer= container;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof ReindexRequest))
+				return false;
+			ReindexRequest other= (ReindexRequest) obj;
+			return fKindId.equals(other.fKindId) && fContainer.equals(other.fContainer);
+		}
+
+		@Override
+		public int hashCode() {
+			return fKindId.hashCode() * 31 + fContainer.hashCode();
+		}
+	}
+
+	private final class ReindexJob extends Job {
+
+		ReindexJob() {
+			super(JUnitMessages.TestTypeIndex_reindex_job_name);
+			setSystem(true);
+			setPriority(Job.DECORATE);
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			ReindexRequest[] requests;
+			synchronized (TestTypeIndex.this) {
+				requests= fPendingReindex.toArray(new ReindexRequest[fPendingReindex.size()]);
+				fPendingReindex.clear();
+			}
+			SubMonitor subMonitor= SubMonitor.convert(monitor, requests.length);
+			for (ReindexRequest request : requests) {
+				if (subMonitor.isCanceled())
+					return Status.CANCEL_STATUS;
+				ITestFinder finder;
+				synchronized (TestTypeIndex.this) {
+					finder= fFinders.get(request.fKindId);
+				}
+				if (finder == null || !request.fContainer.exists())
+					continue;
+				try {
+					findTestsInContainer(request.fKindId, finder, request.fContainer, new HashSet<>(), subMonitor.split(1));
+				} catch (OperationCanceledException e) {
+					return Status.CANCEL_STATUS;
+				} catch (CoreException e) {
+					// the container is searched on its next use
+				}
+			}
+			return Status.OK_STATUS;
+		}
+	}
+
+	/** Flags of a member delta that do not affect whether a type is a test */
+	private static final int BODY_CHANGE_FLAGS= IJavaElementDelta.F_CONTENT | IJavaElementDelta.F_FINE_GRAINED;
+
+	private final Map<IJavaProject, ProjectIndex> fProjects= new HashMap<>();
+
+	/** The finders used to search the cached containers, by test kind id */
+	private final Map<String, ITestFinder> fFinders= new HashMap<>();
+
+	private final Set<ReindexRequest> fPendingReindex= new LinkedHashSet<>();
+
+	private final ReindexJob fReindexJob= new ReindexJob();
+
+	/**
+	 * Incremented on every invalidation, used to discard results that were computed
+	 * concurrently with a change.
+	 */
+	private long fGeneration;
+
+	private boolean fStarted;
+
+	private TestTypeIndex() {
+	}
+
+	public synchronized void start() {
+		if (!fStarted) {
+			// unsaved changes are not indexed, see hasUnsavedChanges(IJavaElement)
+			JavaCore.addElementChangedListener(this, ElementChangedEvent.POST_CHANGE);
+			fStarted= true;
+		}
+	}
+
+	public void stop() {
+		synchronized (this) {
+			if (!fStarted)
+				return;
+			JavaCore.removeElementChangedListener(this);
+			fStarted= false;
+			fProjects.clear();
+			fFinders.clear();
+			fPendingReindex.clear();
+			fGeneration++;
+		}
+		fReindexJob.cancel();
+	}
+
+	/**
+	 * Finds the tests in the given container, using the cached result of a previous search if the
+	 * container has not changed since.
+	 *
+	 * @param kindId the id of the test kind
+	 * @param finder the finder of the test kind
+	 * @param element element to search for tests
+	 * @param result a Set to add ITypes
+	 * @param pm the progress monitor
+	 * @throws CoreException thrown when tests can not be found
+	 */
+	public void findTestsInContainer(String kindId, ITestFinder finder, IJavaElement element, Set<IType> result, IProgressMonitor pm) throws CoreException {
+		IJavaProject project= element.getJavaProject();
+		boolean isIndexed= project != null && !hasUnsavedChanges(element);
+		long generation;
+		synchronized (this) {
+			if (!fStarted || !isIndexed) {
+				generation= -1;
+			} else {
+				ProjectIndex index= fProjects.get(project);
+				if (index != null) {
+					Map<IJavaElement, IType[]> containers= index.fContainerTests.get(kindId);
+					IType[] cached= containers != null ? containers.get(element) : null;
+					if (cached != null) {
+						result.addAll(Arrays.asList(cached));
+						return;
+					}
+				}
+				generation= fGeneration;
+			}
+		}
+
+		Set<IType> found= new HashSet<>();
+		finder.findTestsInContainer(element, found, pm);
+		result.addAll(found);
+
+		// the unit may have been edited during the search
+		if (generation == -1 || hasUnsavedChanges(element))
+			return;
+		synchronized (this) {
+			if (generation == fGeneration) {
+				getProjectIndex(project).fContainerTests.computeIfAbsent(kindId, k -> new HashMap<>()).put(element, found.toArray(new IType[found.size()]));
+				fFinders.put(kindId, finder);
+			}
+		}
+	}
+
+	/**
+	 * Tells whether the given type is a test, using the cached answer of a previous request if the
+	 * type has not changed since.
+	 *
+	 * @param kindId the id of the test kind
+	 * @param finder the finder of the test kind
+	 * @param type the type to test
+	 * @return <code>true</code> iff the finder considers the type a test
+	 * @throws CoreException thrown when the type can not be analyzed
+	 */
+	public boolean isTest(String kindId, ITestFinder finder, IType type) throws CoreException {
+		IJavaProject project= type.getJavaProject();
+		boolean isIndexed= project != null && !hasUnsavedChanges(type);
+		long generation;
+		synchronized (this) {
+			if (!fStarted || !isIndexed) {
+				generation= -1;
+			} else {
+				ProjectIndex index= fProjects.get(project);
+				if (index != null) {
+					Map<IType, Boolean> types= index.fIsTest.get(kindId);
+					Boolean cached= types != null ? types.get(type) : null;
+					if (cached != null) {
+						return cached.booleanValue();
+					}
+				}
+				generation= fGeneration;
+			}
+		}
+
+		boolean isTest= finder.isTest(type);
+
+		if (generation != -1 && !hasUnsavedChanges(type)) {
+			synchronized (this) {
+				if (generation == fGeneration) {
+					getProjectIndex(project).getIsTest(kindId).put(type, Boolean.valueOf(isTest));
+				}
+			}
+		}
+		return isTest;
+	}
+
+	private ProjectIndex getProjectIndex(IJavaProject project) {
+		return fProjects.computeIfAbsent(project, p -> new ProjectIndex());
+	}
+
+	/*
+	 * Tells whether the element is inside, or contains, a compilation unit open in an editor with
+	 * unsaved changes. Such changes are only reported by reconcile deltas.
+	 */
+	private static boolean hasUnsavedChanges(IJavaElement element) {
+		for (ICompilationUnit workingCopy : JavaCore.getWorkingCopies(null)) {
+			try {
+				if (workingCopy.hasUnsavedChanges() && (isAncestorOrSelf(workingCopy, element) || isAncestorOrSelf(element, workingCopy)))
+					return true;
+			} catch (JavaModelException e) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		synchronized (this) {
+			if (fProjects.isEmpty())
+				return;
+		}
+		Set<IJavaElement> changedOpenables= new HashSet<>();
+		Set<IJavaProject> changedProjects= new HashSet<>();
+		collectChanges(event.getDelta(), changedOpenables, changedProjects);
+		if (changedOpenables.isEmpty() && changedProjects.isEmpty())
+			return;
+
+		synchronized (this) {
+			Map<String, Set<IJavaElement>> removed= new HashMap<>();
+			for (IJavaElement openable : changedOpenables) {
+				ProjectIndex index= fProjects.get(openable.getJavaProject());
+				if (index != null) {
+					index.removeOpenable(openable, removed);
+					if (index.isEmpty())
+						fProjects.remove(openable.getJavaProject());
+				}
+			}
+			if (!changedProjects.isEmpty()) {
+				for (IJavaProject project : getAffectedProjects(changedProjects)) {
+					ProjectIndex index= fProjects.remove(project);
+					if (index != null)
+						index.collectContainers(removed);
+				}
+			}
+			fGeneration++;
+
+			for (Map.Entry<String, Set<IJavaElement>> entry : removed.entrySet()) {
+				for (IJavaElement container : entry.getValue()) {
+					fPendingReindex.add(new ReindexRequest(entry.getKey(), container));
+				}
+			}
+			if (!fPendingReindex.isEmpty())
+				fReindexJob.schedule(REINDEX_DELAY);
+		}
+	}
+
+	/**
+	 * Collects the compilation units and class files whose results must be dropped, and the
+	 * projects whose results must all be dropped.
+	 *
+	 * @param delta the delta
+	 * @param openables the changed compilation units and class files
+	 * @param projects the changed projects
+	 */
+	private static void collectChanges(IJavaElementDelta delta, Set<IJavaElement> openables, Set<IJavaProject> projects) {
+		IJavaElement element= delta.getElement();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+				break;
+			case IJavaElement.JAVA_PROJECT:
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & ~IJavaElementDelta.F_CHILDREN) != 0) {
+					// e.g. a changed class path or a removed package
+					projects.add(element.getJavaProject());
+					return;
+				}
+				break;
+			case IJavaElement.COMPILATION_UNIT:
+			case IJavaElement.CLASS_FILE:
+				int kind= delta.getKind();
+				if (kind == IJavaElementDelta.CHANGED && isBodyChange(delta))
+					return;
+				openables.add(element);
+				if (kind == IJavaElementDelta.REMOVED || kind == IJavaElementDelta.CHANGED && mayAffectSubTypes(delta))
+					projects.add(element.getJavaProject());
+				return;
+			default:
+				return;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			collectChanges(child, openables, projects);
+		}
+	}
+
+	/*
+	 * Tells whether only the bodies of methods, initializers or field initializers changed.
+	 */
+	private static boolean isBodyChange(IJavaElementDelta delta) {
+		IJavaElementDelta[] children= delta.getAffectedChildren();
+		if (children.length == 0)
+			return false; // not fine grained, e.g. the unit was replaced
+		for (IJavaElementDelta child : children) {
+			int type= child.getElement().getElementType();
+			if (child.getKind() != IJavaElementDelta.CHANGED)
+				return false;
+			if (type == IJavaElement.TYPE) {
+				if ((child.getFlags() & ~IJavaElementDelta.F_CHILDREN) != 0 || !isBodyChange(child))
+					return false;
+			} else if (type == IJavaElement.METHOD || type == IJavaElement.INITIALIZER || type == IJavaElement.FIELD) {
+				if ((child.getFlags() & ~BODY_CHANGE_FLAGS) != 0 || child.getAffectedChildren().length != 0)
+					return false;
+			} else {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/*
+	 * Tells whether a change of a unit may change which sub types of its types are tests, as tests
+	 * inherit their test methods and annotations. Sub types of added types and of final types can
+	 * not be affected.
+	 */
+	private static boolean mayAffectSubTypes(IJavaElementDelta delta) {
+		IJavaElementDelta[] children= delta.getAffectedChildren();
+		if (children.length == 0)
+			return true; // not fine grained
+		for (IJavaElementDelta child : children) {
+			IJavaElement element= child.getElement();
+			if (element.getElementType() != IJavaElement.TYPE)
+				return true; // e.g. changed imports, which resolve the annotations
+			if (child.getKind() == IJavaElementDelta.REMOVED)
+				return true;
+			if (child.getKind() == IJavaElementDelta.CHANGED) {
+				try {
+					if (!Flags.isFinal(((IType) element).getFlags()))
+						return true;
+				} catch (JavaModelException e) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/*
+	 * Returns the changed projects together with all cached projects that (transitively) require
+	 * one of them, since a changed super type can turn a type of a dependent project into a test.
+	 */
+	private Set<IJavaProject> getAffectedProjects(Set<IJavaProject> changed) {
+		Set<IJavaProject> affected= new HashSet<>(changed);
+		Set<String> affectedNames= new HashSet<>();
+		for (IJavaProject project : changed) {
+			affectedNames.add(project.getElementName());
+		}
+		List<IJavaProject> candidates= new ArrayList<>(fProjects.keySet());
+		candidates.removeAll(affected);
+		boolean added= true;
+		while (added) {
+			added= false;
+			for (Iterator<IJavaProject> iter= candidates.iterator(); iter.hasNext();) {
+				IJavaProject candidate= iter.next();
+				if (requiresAny(candidate, affectedNames)) {
+					affected.add(candidate);
+					affectedNames.add(candidate.getElementName());
+					iter.remove();
+					added= true;
+				}
+			}
+		}
+		return affected;
+	}
+
+	private static boolean isAncestorOrSelf(IJavaElement ancestor, IJavaElement element) {
+		for (IJavaElement curr= element; curr != null; curr= curr.getParent()) {
+			if (ancestor.equals(curr))
+				return true;
+		}
+		return false;
+	}
+
+	private static boolean requiresAny(IJavaProject project, Set<String> projectNames) {
+		try {
+			for (String required : project.getRequiredProjectNames()) {
+				if (projectNames.contains(required)) {
+					return true;
+				}
+			}
+			return false;
+		} catch (JavaModelException e) {
+			// be conservative
+			return true;
+		}
+	}
+
+	/**
+	 * {@link ITestFinder} that answers from the {@link TestTypeIndex}.
+	 */
+	static final class IndexedTestFinder implements ITestFinder {
+
+		private final String fKindId;
+		private final ITestFinder fFinder;
+
+		IndexedTestFinder(String kindId, ITestFinder finder) {
+			fKindId= kindId;
+			fFinder= finder;
+		}
+
+		@Override
+		public void findTestsInContainer(IJavaElement element, Set<IType> result, IProgressMonitor pm) throws CoreException {
+			if (element == null || result == null) {
+				throw new IllegalArgumentException();
+			}
+			getDefault().findTestsInContainer(fKindId, fFinder, element, result, pm);
+		}
+
+		@Override
+		public boolean isTest(IType type) throws CoreException {
+			return getDefault().isTest(fKindId, fFinder, type);
+		}
+	}
+}
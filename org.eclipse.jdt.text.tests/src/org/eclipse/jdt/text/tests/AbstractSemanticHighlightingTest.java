@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -40,10 +40,12 @@ import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.ui.PreferenceConstants;
 
 import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.javaeditor.CompilationUnitEditor;
 import org.eclipse.jdt.internal.ui.javaeditor.JavaEditor;
 import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlighting;
 import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightingManager;
 import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightingPresenter;
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightingReconciler;
 import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightings;
 
 public class AbstractSemanticHighlightingTest {
@@ -144,8 +146,62 @@ public class AbstractSemanticHighlightingTest {
 		return document.getPositions(positionCategory);
 	}
 
+	/**
+	 * Recomputes the highlighting of the whole document and returns the resulting positions.
+	 *
+	 * @return the positions of a full reconcile
+	 * @throws BadPositionCategoryException if the position category is not registered
+	 */
+	protected Position[] getRecomputedSemanticHighlightingPositions() throws BadPositionCategoryException {
+		SemanticHighlightingManager manager= (SemanticHighlightingManager) new Accessor(fEditor, JavaEditor.class).get("fSemanticManager");
+		SemanticHighlightingReconciler reconciler= (SemanticHighlightingReconciler) new Accessor(manager, manager.getClass()).get("fReconciler");
+		reconciler.refresh();
+		assertTrue(EditorTestHelper.joinJobs(100, 10000, 100));
+		EditorTestHelper.runEventQueue(100);
+		return getSemanticHighlightingPositions();
+	}
+
+	protected void replace(int line, int column, int length, String text) throws BadLocationException {
+		IDocument document= fSourceViewer.getDocument();
+		document.replace(document.getLineOffset(line) + column, length, text);
+	}
+
+	protected void replaceLines(int line, int count, String text) throws BadLocationException {
+		IDocument document= fSourceViewer.getDocument();
+		int offset= document.getLineOffset(line);
+		document.replace(offset, document.getLineOffset(line + count) - offset, text);
+	}
+
+	/**
+	 * Replaces text once the next reconcile has started.
+	 *
+	 * @param line the line
+	 * @param column the column
+	 * @param length the length of the replaced text
+	 * @param text the new text
+	 */
+	protected void replaceDuringNextReconcile(int line, int column, int length, String text) {
+		EditorTestHelper.runDuringNextReconcile((CompilationUnitEditor) fEditor, () -> {
+			try {
+				replace(line, column, length, text);
+			} catch (BadLocationException e) {
+				throw new AssertionError(e);
+			}
+		});
+	}
+
+	protected void joinReconciler() {
+		assertTrue(EditorTestHelper.joinReconciler(fSourceViewer, 100, 10000, 100));
+		EditorTestHelper.runEventQueue(100);
+	}
+
 	protected void setUpSemanticHighlighting(String semanticHighlighting) {
-		enableSemanticHighlighting(semanticHighlighting);
+		setUpSemanticHighlightings(semanticHighlighting);
+	}
+
+	protected void setUpSemanticHighlightings(String... semanticHighlightings) {
+		for (String semanticHighlighting : semanticHighlightings)
+			enableSemanticHighlighting(semanticHighlighting);
 		EditorTestHelper.forceReconcile(fSourceViewer);
 		assertTrue(EditorTestHelper.joinReconciler(fSourceViewer, 0, 10000, 100));
 		EditorTestHelper.runEventQueue(100);
@@ -0,0 +1,247 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.core.resources.IFile;
+
+import org.eclipse.core.filebuffers.FileBuffers;
+import org.eclipse.core.filebuffers.ITextFileBuffer;
+import org.eclipse.core.filebuffers.ITextFileBufferManager;
+import org.eclipse.core.filebuffers.LocationKind;
+
+import org.eclipse.text.tests.Accessor;
+
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IRegion;
+
+import org.eclipse.jdt.core.IJavaProject;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.javaeditor.EditorUtility;
+
+/**
+ * Compares the lines tracked by <code>ChangedLineTracker</code> while a document is edited with
+ * the lines {@link EditorUtility#calculateChangedLineRegions} finds by comparing the document with
+ * its file.
+ */
+public class ChangedLineTrackerTest {
+
+	private static final String CONTENT=
+			"package p;\n" +
+			"\n" +
+			"public class A {\n" +
+			"\tint a;\n" +
+			"\tint b;\n" +
+			"\tint c;\n" +
+			"\tint d;\n" +
+			"\tint e;\n" +
+			"\tint f;\n" +
+			"}\n";
+
+	private IJavaProject fJavaProject;
+	private IFile fFile;
+	private ITextFileBuffer fBuffer;
+	private IDocument fDocument;
+	private Accessor fTracker;
+
+	@Before
+	public void setUp() throws Exception {
+		fJavaProject= JavaProjectHelper.createJavaProject("ChangedLineTrackerTest", "bin");
+		fFile= fJavaProject.getProject().getFile("A.java");
+		fFile.create(new ByteArrayInputStream(CONTENT.getBytes()), true, null);
+
+		ITextFileBufferManager manager= FileBuffers.getTextFileBufferManager();
+		manager.connect(fFile.getFullPath(), LocationKind.IFILE, null);
+		fBuffer= manager.getTextFileBuffer(fFile.getFullPath(), LocationKind.IFILE);
+		fDocument= fBuffer.getDocument();
+
+		fTracker= new Accessor("org.eclipse.jdt.internal.ui.javaeditor.ChangedLineTracker", JavaPlugin.class.getClassLoader(), new Class[] { ITextFileBuffer.class }, new Object[] { fBuffer });
+		fTracker.invoke("install", new Object[0]);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		if (fTracker != null)
+			fTracker.invoke("uninstall", new Object[0]);
+		if (fBuffer != null)
+			FileBuffers.getTextFileBufferManager().disconnect(fFile.getFullPath(), LocationKind.IFILE, null);
+		if (fJavaProject != null)
+			JavaProjectHelper.delete(fJavaProject);
+	}
+
+	private IRegion[] getTrackedRegions() {
+		return (IRegion[]) fTracker.invoke("getChangedLineRegions", new Object[0]);
+	}
+
+	private Set<Integer> toLines(IRegion[] regions) throws Exception {
+		Set<Integer> lines= new TreeSet<>();
+		for (IRegion region : regions) {
+			int startLine= fDocument.getLineOfOffset(region.getOffset());
+			int endLine= fDocument.getLineOfOffset(region.getOffset() + region.getLength());
+			for (int line= startLine; line <= endLine; line++) {
+				lines.add(Integer.valueOf(line));
+			}
+		}
+		return lines;
+	}
+
+	private static Set<Integer> lines(int... lines) {
+		Set<Integer> result= new TreeSet<>();
+		for (int line : lines) {
+			result.add(Integer.valueOf(line));
+		}
+		return result;
+	}
+
+	private void replaceLines(int startLine, int lineCount, String text) throws Exception {
+		int offset= fDocument.getLineOffset(startLine);
+		int end= fDocument.getLineOffset(startLine + lineCount);
+		fDocument.replace(offset, end - offset, text);
+	}
+
+	/*
+	 * Asserts that the tracked lines contain all lines that differ from the file and returns them.
+	 */
+	private Set<Integer> assertTracksChangedLines() throws Exception {
+		IRegion[] tracked= getTrackedRegions();
+		assertNotNull(tracked);
+		Set<Integer> trackedLines= toLines(tracked);
+		Set<Integer> changedLines= toLines(EditorUtility.calculateChangedLineRegions(fBuffer, new NullProgressMonitor()));
+		assertTrue("tracked " + trackedLines + ", changed " + changedLines, trackedLines.containsAll(changedLines));
+		return trackedLines;
+	}
+
+	@Test
+	public void editInLine() throws Exception {
+		fDocument.replace(fDocument.getLineOffset(4) + 5, 1, "x");
+
+		Set<Integer> changedLines= toLines(EditorUtility.calculateChangedLineRegions(fBuffer, new NullProgressMonitor()));
+		assertEquals(lines(4), changedLines);
+		assertEquals(changedLines, assertTracksChangedLines());
+	}
+
+	@Test
+	public void multiLineInsert() throws Exception {
+		replaceLines(4, 0, "\tint x;\n\tint y;\n\tint z;\n");
+
+		// the line the text was inserted in front of is reported as well
+		assertEquals(lines(4, 5, 6, 7), assertTracksChangedLines());
+	}
+
+	@Test
+	public void multiLineDelete() throws Exception {
+		replaceLines(4, 3, "");
+
+		// the comparison does not report removed lines, the tracker reports the line that took their place
+		assertEquals(lines(4), assertTracksChangedLines());
+		assertEquals("\tint e;", fDocument.get(fDocument.getLineOffset(4), fDocument.getLineLength(4) - 1));
+	}
+
+	@Test
+	public void multiLineReplace() throws Exception {
+		replaceLines(4, 2, "\tlong b;\n\tlong c;\n\tlong x;\n");
+
+		assertEquals(lines(4, 5, 6, 7), assertTracksChangedLines());
+	}
+
+	@Test
+	public void insertAboveTrackedLines() throws Exception {
+		fDocument.replace(fDocument.getLineOffset(7) + 5, 1, "x");
+		replaceLines(1, 0, "import java.util.List;\nimport java.util.Map;\n");
+
+		Set<Integer> trackedLines= assertTracksChangedLines();
+		assertEquals(lines(1, 2, 3, 9), trackedLines);
+		assertEquals("\tint x;", fDocument.get(fDocument.getLineOffset(9), fDocument.getLineLength(9) - 1));
+	}
+
+	@Test
+	public void deleteAboveTrackedLines() throws Exception {
+		fDocument.replace(fDocument.getLineOffset(7) + 5, 1, "x");
+		replaceLines(3, 2, "");
+
+		Set<Integer> trackedLines= assertTracksChangedLines();
+		assertEquals(lines(3, 5), trackedLines);
+		assertEquals("\tint x;", fDocument.get(fDocument.getLineOffset(5), fDocument.getLineLength(5) - 1));
+	}
+
+	@Test
+	public void editTouchingChangedLine() throws Exception {
+		fDocument.replace(fDocument.getLineOffset(5) + 5, 1, "x");
+		fDocument.replace(fDocument.getLineOffset(6) + 5, 1, "y");
+		// join the two changed lines
+		int offset= fDocument.getLineOffset(5) + 6;
+		fDocument.replace(offset, fDocument.getLineOffset(6) + 6 - offset, " ");
+
+		Set<Integer> trackedLines= assertTracksChangedLines();
+		assertEquals(lines(5), trackedLines);
+		assertEquals("\tint x ;", fDocument.get(fDocument.getLineOffset(5), fDocument.getLineLength(5) - 1));
+
+		// split the joined line again
+		fDocument.replace(fDocument.getLineOffset(5) + 6, 1, "\n\tint y");
+		assertEquals(lines(5, 6), assertTracksChangedLines());
+	}
+
+	@Test
+	public void changeBackIsStillTracked() throws Exception {
+		fDocument.replace(fDocument.getLineOffset(4) + 5, 1, "x");
+		fDocument.replace(fDocument.getLineOffset(4) + 5, 1, "b");
+
+		assertEquals(CONTENT, fDocument.get());
+		assertTrue(fBuffer.isDirty());
+		assertEquals(0, EditorUtility.calculateChangedLineRegions(fBuffer, new NullProgressMonitor()).length);
+		assertEquals(lines(4), toLines(getTrackedRegions()));
+	}
+
+	@Test
+	public void resetAfterSave() throws Exception {
+		fDocument.replace(fDocument.getLineOffset(4) + 5, 1, "x");
+		replaceLines(6, 0, "\tint y;\n");
+		assertEquals(lines(4, 6, 7), assertTracksChangedLines());
+
+		fBuffer.commit(null, true);
+		assertNull(getTrackedRegions());
+
+		fDocument.replace(fDocument.getLineOffset(8) + 5, 1, "z");
+		Set<Integer> changedLines= toLines(EditorUtility.calculateChangedLineRegions(fBuffer, new NullProgressMonitor()));
+		assertEquals(lines(8), changedLines);
+		assertEquals(changedLines, assertTracksChangedLines());
+	}
+
+	@Test
+	public void resetAfterRevert() throws Exception {
+		fDocument.replace(fDocument.getLineOffset(4) + 5, 1, "x");
+		fBuffer.revert(null);
+		assertNull(getTrackedRegions());
+
+		fDocument.replace(fDocument.getLineOffset(6) + 5, 1, "z");
+		assertEquals(lines(6), assertTracksChangedLines());
+	}
+}
@@ -0,0 +1,188 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.jdt.text.tests.performance.EditorTestHelper;
+import org.eclipse.jdt.text.tests.performance.ResourceTestHelper;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.Position;
+import org.eclipse.jface.text.source.Annotation;
+import org.eclipse.jface.text.source.SourceViewer;
+import org.eclipse.jface.text.source.projection.ProjectionAnnotationModel;
+import org.eclipse.jface.text.source.projection.ProjectionViewer;
+
+import org.eclipse.jdt.core.IJavaProject;
+
+import org.eclipse.jdt.ui.text.folding.IJavaFoldingStructureProvider;
+
+import org.eclipse.jdt.internal.ui.javaeditor.CompilationUnitEditor;
+
+/**
+ * Tests that the folding structure maintained on reconcile matches a full recomputation.
+ *
+ * @since 3.31
+ */
+public class JavaFoldingStructureProviderTest {
+
+	private static final String PROJECT= "FoldingTest";
+
+	private static final String LINKED_FOLDER= "testResources/foldingTest1";
+
+	private IJavaProject fJavaProject;
+
+	private CompilationUnitEditor fEditor;
+
+	private SourceViewer fSourceViewer;
+
+	private boolean fWasFoldingEnabled;
+
+	@Before
+	public void setUp() throws Exception {
+		fWasFoldingEnabled= EditorTestHelper.enableFolding(true);
+		fJavaProject= EditorTestHelper.createJavaProject(PROJECT, LINKED_FOLDER);
+		fEditor= (CompilationUnitEditor) EditorTestHelper.openInEditor(ResourceTestHelper.findFile("/FoldingTest/src/FoldingTest.java"), true);
+		fSourceViewer= EditorTestHelper.getSourceViewer(fEditor);
+		assertTrue(EditorTestHelper.joinReconciler(fSourceViewer, 0, 10000, 100));
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		EditorTestHelper.closeEditor(fEditor);
+		fEditor= null;
+		fSourceViewer= null;
+		EditorTestHelper.enableFolding(fWasFoldingEnabled);
+		if (fJavaProject != null)
+			JavaProjectHelper.delete(fJavaProject);
+	}
+
+	private List<Position> getFoldingPositions() {
+		ProjectionAnnotationModel model= ((ProjectionViewer) fSourceViewer).getProjectionAnnotationModel();
+		List<Position> positions= new ArrayList<>();
+		for (Iterator<Annotation> iter= model.getAnnotationIterator(); iter.hasNext();) {
+			Position position= model.getPosition(iter.next());
+			positions.add(new Position(position.getOffset(), position.getLength()));
+		}
+		positions.sort(Comparator.comparingInt(Position::getOffset).thenComparingInt(Position::getLength));
+		return positions;
+	}
+
+	private List<Position> getRecomputedFoldingPositions() {
+		fEditor.getAdapter(IJavaFoldingStructureProvider.class).initialize();
+		EditorTestHelper.runEventQueue(100);
+		return getFoldingPositions();
+	}
+
+	private void assertEqualToRecomputedPositions() {
+		List<Position> actual= getFoldingPositions();
+		assertFalse(actual.isEmpty());
+		assertEquals(getRecomputedFoldingPositions(), actual);
+	}
+
+	private void replace(String text, String replacement) throws BadLocationException {
+		IDocument document= fSourceViewer.getDocument();
+		int offset= document.get().indexOf(text);
+		assertTrue(offset >= 0);
+		document.replace(offset, text.length(), replacement);
+	}
+
+	private void joinReconciler() {
+		assertTrue(EditorTestHelper.joinReconciler(fSourceViewer, 100, 10000, 100));
+		EditorTestHelper.runEventQueue(100);
+	}
+
+	@Test
+	public void editInsideBody() throws Exception {
+		replace("\t\ta++;\n", "\t\ta++;\n\t\ta--;\n\t\ta++;\n");
+		joinReconciler();
+		assertEqualToRecomputedPositions();
+	}
+
+	@Test
+	public void editInsideBodyAddingType() throws Exception {
+		replace("\t\tlist.clear();\n", "\t\tlist.clear();\n\t\tnew Object() {\n\t\t\tint hash() {\n\t\t\t\treturn 0;\n\t\t\t}\n\t\t};\n");
+		joinReconciler();
+		assertEqualToRecomputedPositions();
+	}
+
+	@Test
+	public void editsInsideBodies() throws Exception {
+		replace("\t\ta++;\n", "\t\ta++;\n\t\ta--;\n");
+		joinReconciler();
+		replace("\t\t\t\tfield++;\n", "\t\t\t\tfield++;\n\t\t\t\tfield++;\n");
+		joinReconciler();
+		replace("\t\t\tfield--;\n", "");
+		joinReconciler();
+		assertEqualToRecomputedPositions();
+	}
+
+	@Test
+	public void editComment() throws Exception {
+		replace("\t * Method comment.\n", "\t * Method comment\n\t * on two lines.\n");
+		joinReconciler();
+		assertEqualToRecomputedPositions();
+	}
+
+	@Test
+	public void editHeaderComment() throws Exception {
+		replace(" * Header comment.\n", " * Header comment\n * on two lines.\n");
+		joinReconciler();
+		assertEqualToRecomputedPositions();
+	}
+
+	@Test
+	public void editAcrossMembers() throws Exception {
+		replace("\t\ta++;\n\t}\n\n\tvoid second() {\n\t\tRunnable r",
+				"\t\ta++;\n\t}\n\n\t/**\n\t * Added method comment.\n\t */\n\tvoid added() {\n\t\tfield= 0;\n\t}\n\n\tvoid second() {\n\t\tRunnable r");
+		joinReconciler();
+		assertEqualToRecomputedPositions();
+	}
+
+	@Test
+	public void removeMembers() throws Exception {
+		replace("\t\tr.run();\n\t}\n\n\t/**\n\t * Another method comment.\n\t */\n\tvoid third() {\n\t\tList<String> list= new ArrayList<>();\n",
+				"\t\tr.run();\n");
+		joinReconciler();
+		assertEqualToRecomputedPositions();
+	}
+
+	@Test
+	public void editDuringReconcile() throws Exception {
+		EditorTestHelper.runDuringNextReconcile(fEditor, () -> {
+			try {
+				replace("\t\tlist.clear();\n", "\t\tlist.clear();\n\t\tlist.clear();\n");
+			} catch (BadLocationException e) {
+				throw new AssertionError(e);
+			}
+		});
+		replace("\t\ta++;\n", "\t\ta++;\n\t\ta--;\n");
+		joinReconciler();
+		assertEqualToRecomputedPositions();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,8 @@
  *******************************************************************************/
 package org.eclipse.jdt.text.tests;
 
+import static org.junit.Assert.assertTrue;
+
 import org.junit.Rule;
 import org.junit.Test;
 
@@ -325,4 +327,67 @@ public class SemanticHighlightingTest extends AbstractSemanticHighlightingTest {
 		};
 		assertEqualPositions(expected, actual);
 	}
+
+	private void setUpReconcileHighlightings() {
+		setUpSemanticHighlightings(
+				SemanticHighlightings.LOCAL_VARIABLE_DECLARATION,
+				SemanticHighlightings.LOCAL_VARIABLE,
+				SemanticHighlightings.PARAMETER_VARIABLE,
+				SemanticHighlightings.FIELD,
+				SemanticHighlightings.METHOD_DECLARATION,
+				SemanticHighlightings.STATIC_METHOD_INVOCATION);
+	}
+
+	private void assertEqualToRecomputedPositions() throws Exception {
+		Position[] actual= getSemanticHighlightingPositions();
+		assertTrue(actual.length > 0);
+		assertEqualPositions(getRecomputedSemanticHighlightingPositions(), actual);
+	}
+
+	@Test
+	public void reconcileEditInsideBody() throws Exception {
+		setUpReconcileHighlightings();
+		replace(10, 0, 0, "\t\tint added= local + field;\n");
+		joinReconciler();
+		assertEqualToRecomputedPositions();
+	}
+
+	@Test
+	public void reconcileEditsInsideBodies() throws Exception {
+		setUpReconcileHighlightings();
+		replace(9, 2, 5, "param");
+		joinReconciler();
+		replace(41, 0, 0, "\t\t\tint added= field;\n");
+		joinReconciler();
+		assertEqualToRecomputedPositions();
+	}
+
+	@Test
+	public void reconcileEditAcrossMembers() throws Exception {
+		setUpReconcileHighlightings();
+		// removes the declarations of staticMethod() and abstractMethod(), which are still invoked
+		replaceLines(19, 2, "\tint staticMethod;\n");
+		joinReconciler();
+		assertEqualToRecomputedPositions();
+	}
+
+	@Test
+	public void reconcileEditOfFieldDeclaration() throws Exception {
+		setUpReconcileHighlightings();
+		// the field becomes a local variable of the initializer
+		replace(3, 1, 0, "{ ");
+		replace(3, 13, 0, " }");
+		joinReconciler();
+		assertEqualToRecomputedPositions();
+	}
+
+	@Test
+	public void reconcileEditDuringReconcile() throws Exception {
+		setUpReconcileHighlightings();
+		// the body of Generic.method() starts one line further down after the edit below
+		replaceDuringNextReconcile(42, 0, 0, "\t\t\tint added= field;\n");
+		replace(10, 0, 0, "\t\tint added= local + field;\n");
+		joinReconciler();
+		assertEqualToRecomputedPositions();
+	}
 }
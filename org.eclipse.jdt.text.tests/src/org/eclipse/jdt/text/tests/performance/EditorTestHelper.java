@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -82,6 +82,7 @@ import org.eclipse.ui.texteditor.ITextEditor;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.search.IJavaSearchConstants;
 import org.eclipse.jdt.core.search.SearchEngine;
 import org.eclipse.jdt.core.search.SearchPattern;
@@ -91,7 +92,9 @@ import org.eclipse.jdt.ui.PreferenceConstants;
 
 import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.dialogs.OptionalMessageDialog;
+import org.eclipse.jdt.internal.ui.javaeditor.CompilationUnitEditor;
 import org.eclipse.jdt.internal.ui.text.JavaReconciler;
+import org.eclipse.jdt.internal.ui.text.java.IJavaReconcilingListener;
 
 
 /**
@@ -376,6 +379,39 @@ public class EditorTestHelper {
 		return finished;
 	}
 
+	/**
+	 * Runs the given runnable in the UI thread once the next reconcile of the editor has started,
+	 * e.g. to edit the document while it is being reconciled. The reconcile waits for the runnable.
+	 * The listener used for this is removed from the editor once the runnable has run.
+	 *
+	 * @param editor the editor
+	 * @param runnable the runnable
+	 */
+	public static void runDuringNextReconcile(CompilationUnitEditor editor, Runnable runnable) {
+		final Display display= getActiveDisplay();
+		final Accessor editorAccessor= new Accessor(editor, CompilationUnitEditor.class);
+		IJavaReconcilingListener listener= new IJavaReconcilingListener() {
+			private boolean fHasRun;
+
+			@Override
+			public void aboutToBeReconciled() {
+				if (!fHasRun) {
+					fHasRun= true;
+					try {
+						display.syncExec(runnable);
+					} finally {
+						editorAccessor.invoke("removeReconcileListener", new Class[] { IJavaReconcilingListener.class }, new Object[] { this });
+					}
+				}
+			}
+
+			@Override
+			public void reconciled(CompilationUnit ast, boolean forced, IProgressMonitor progressMonitor) {
+			}
+		};
+		editorAccessor.invoke("addReconcileListener", new Class[] { IJavaReconcilingListener.class }, new Object[] { listener });
+	}
+
 	public static AbstractReconciler getReconciler(SourceViewer sourceViewer) {
 		return (AbstractReconciler) new Accessor(sourceViewer, SourceViewer.class).get("fReconciler");
 	}
@@ -0,0 +1,46 @@
+/*
+ * Header comment.
+ */
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Type comment.
+ */
+public class FoldingTest {
+	/**
+	 * Field comment.
+	 */
+	int field;
+
+	/**
+	 * Method comment.
+	 */
+	void first() {
+		int a= 1;
+		a++;
+	}
+
+	void second() {
+		Runnable r= new Runnable() {
+			public void run() {
+				field++;
+			}
+		};
+		r.run();
+	}
+
+	/**
+	 * Another method comment.
+	 */
+	void third() {
+		List<String> list= new ArrayList<>();
+		list.clear();
+	}
+
+	class Inner {
+		void inner() {
+			field--;
+		}
+	}
+}
@@ -0,0 +1,43 @@
+package generic;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Vector;
+
+public class TestSubTypeClosureAssignments<E, N extends Number> {
+	Object object;
+	Serializable serializable;
+	RandomAccess randomAccess;
+	
+	Collection collection;
+	List list;
+	AbstractList abstractList;
+	ArrayList arrayList;
+	Vector vector;
+	
+	Collection<E> collection_e;
+	List<E> list_e;
+	AbstractList<E> abstractList_e;
+	ArrayList<E> arrayList_e;
+	Vector<E> vector_e;
+	
+	Collection<String> collection_string;
+	List<String> list_string;
+	AbstractList<String> abstractList_string;
+	ArrayList<String> arrayList_string;
+	ArrayList<Integer> arrayList_integer;
+	
+	Collection<? extends Number> collection_upper_number;
+	List<? extends N> list_upper_n;
+	ArrayList<N> arrayList_n;
+	Vector<Number> vector_number;
+	
+	List<E>[] list_e_arr;
+	ArrayList<E>[] arrayList_e_arr;
+	Collection[] collection_arr;
+	ArrayList[] arrayList_arr;
+}
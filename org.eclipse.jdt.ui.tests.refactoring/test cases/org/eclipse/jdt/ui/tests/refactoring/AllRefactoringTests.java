@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -98,6 +98,7 @@ import org.junit.runners.Suite;
 	//--fields
 	RenamePrivateFieldTests.class,
 	RenameNonPrivateFieldTests.class,
+	ConcurrentRenameTests.class,
 	RenameRecordElementsTests.class,
 
 	//--initializers
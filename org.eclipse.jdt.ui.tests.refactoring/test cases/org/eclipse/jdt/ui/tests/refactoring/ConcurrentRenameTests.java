@@ -0,0 +1,207 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.ltk.core.refactoring.Change;
+import org.eclipse.ltk.core.refactoring.CompositeChange;
+import org.eclipse.ltk.core.refactoring.Refactoring;
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+import org.eclipse.ltk.core.refactoring.RefactoringStatusEntry;
+import org.eclipse.ltk.core.refactoring.TextChange;
+
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.refactoring.IJavaRefactorings;
+import org.eclipse.jdt.core.refactoring.descriptors.RenameJavaElementDescriptor;
+
+import org.eclipse.jdt.internal.core.refactoring.descriptors.RefactoringSignatureDescriptorFactory;
+import org.eclipse.jdt.internal.corext.refactoring.util.ConcurrentTaskRunner;
+
+import org.eclipse.jdt.ui.tests.refactoring.rules.RefactoringTestSetup;
+
+/**
+ * Compares renames that touch enough compilation units to be analyzed on worker threads with the
+ * same renames analyzed on the calling thread.
+ */
+public class ConcurrentRenameTests extends GenericRefactoringTest {
+
+	private static final int UNIT_COUNT= 40;
+
+	public ConcurrentRenameTests() {
+		rts= new RefactoringTestSetup();
+	}
+
+	/**
+	 * The status entries and the new contents of the changed compilation units of one rename.
+	 */
+	private static final class RenameResult {
+		final List<String> fStatus= new ArrayList<>();
+		final Map<String, String> fContents= new TreeMap<>();
+	}
+
+	private RenameResult rename(RenameJavaElementDescriptor descriptor, int sequentialThreshold) throws Exception {
+		int previous= ConcurrentTaskRunner.debugSetSequentialThreshold(sequentialThreshold);
+		try {
+			RenameResult result= new RenameResult();
+			Refactoring refactoring= createRefactoring(descriptor);
+			RefactoringStatus status= refactoring.checkAllConditions(new NullProgressMonitor());
+			for (RefactoringStatusEntry entry : status.getEntries()) {
+				result.fStatus.add(entry.getSeverity() + ": " + entry.getMessage());
+			}
+			if (!status.hasFatalError()) {
+				collectContents(refactoring.createChange(new NullProgressMonitor()), result.fContents);
+			}
+			return result;
+		} finally {
+			ConcurrentTaskRunner.debugSetSequentialThreshold(previous);
+		}
+	}
+
+	private static void collectContents(Change change, Map<String, String> contents) throws Exception {
+		if (change instanceof CompositeChange) {
+			for (Change child : ((CompositeChange) change).getChildren()) {
+				collectContents(child, contents);
+			}
+		} else if (change instanceof TextChange) {
+			Object element= change.getModifiedElement();
+			String key= element instanceof IJavaElement ? ((IJavaElement) element).getHandleIdentifier() : change.getName();
+			contents.put(key, ((TextChange) change).getPreviewContent(new NullProgressMonitor()));
+		}
+	}
+
+	private RenameResult assertSameResults(RenameJavaElementDescriptor descriptor) throws Exception {
+		RenameResult sequential= rename(descriptor, Integer.MAX_VALUE);
+		RenameResult parallel= rename(descriptor, 0);
+		assertEquals(sequential.fStatus, parallel.fStatus);
+		assertEquals(sequential.fContents, parallel.fContents);
+		return sequential;
+	}
+
+	private static RenameJavaElementDescriptor createRenameFieldDescriptor(IField field, String newName) {
+		RenameJavaElementDescriptor descriptor= RefactoringSignatureDescriptorFactory.createRenameJavaElementDescriptor(IJavaRefactorings.RENAME_FIELD);
+		descriptor.setJavaElement(field);
+		descriptor.setNewName(newName);
+		descriptor.setUpdateReferences(true);
+		return descriptor;
+	}
+
+	@Test
+	public void renameFieldInManyUnits() throws Exception {
+		StringBuilder buf= new StringBuilder();
+		buf.append("package p;\n");
+		buf.append("public class A {\n");
+		buf.append("    public int f;\n");
+		buf.append("}\n");
+		IField field= createCU(getPackageP(), "A.java", buf.toString()).getType("A").getField("f");
+		for (int i= 0; i < UNIT_COUNT; i++) {
+			buf= new StringBuilder();
+			buf.append("package p;\n");
+			if (i % 2 == 0) {
+				// the parameter shadows the renamed field
+				buf.append("public class B" + i + " extends A {\n");
+				buf.append("    void m(int g) {\n");
+				buf.append("        f= g;\n");
+				buf.append("    }\n");
+				buf.append("    int n() {\n");
+				buf.append("        return f;\n");
+				buf.append("    }\n");
+			} else {
+				buf.append("public class B" + i + " {\n");
+				buf.append("    int n(A a) {\n");
+				buf.append("        return a.f + " + i + ";\n");
+				buf.append("    }\n");
+			}
+			buf.append("}\n");
+			createCU(getPackageP(), "B" + i + ".java", buf.toString());
+		}
+
+		RenameResult result= assertSameResults(createRenameFieldDescriptor(field, "g"));
+		assertEquals(UNIT_COUNT + 1, result.fContents.size());
+		assertTrue(result.fStatus.size() >= UNIT_COUNT / 2);
+	}
+
+	@Test
+	public void renameTypeWithTextualOccurrencesInManyUnits() throws Exception {
+		StringBuilder buf= new StringBuilder();
+		buf.append("package p;\n");
+		buf.append("public class Tracker {\n");
+		buf.append("}\n");
+		IType type= createCU(getPackageP(), "Tracker.java", buf.toString()).getType("Tracker");
+		for (int i= 0; i < UNIT_COUNT; i++) {
+			buf= new StringBuilder();
+			buf.append("package p;\n");
+			switch (i % 4) {
+				case 0:
+					buf.append("/** Reports to a p.Tracker. */\n");
+					buf.append("public class B" + i + " {\n");
+					buf.append("    // a Tracker is set up elsewhere\n");
+					buf.append("    String s= \"Tracker\";\n");
+					break;
+				case 1:
+					buf.append("public class B" + i + " {\n");
+					buf.append("    Tracker t; // the Tracker\n");
+					break;
+				case 2:
+					// the name only occurs as part of other words, these units pass the prefilter
+					buf.append("/** Creates Trackers with a TrackerFactory. */\n");
+					buf.append("public class B" + i + " {\n");
+					buf.append("    String s= \"SubTracker\";\n");
+					break;
+				default:
+					buf.append("public class B" + i + " {\n");
+					buf.append("    // nothing to rename\n");
+					break;
+			}
+			buf.append("}\n");
+			createCU(getPackageP(), "B" + i + ".java", buf.toString());
+		}
+
+		RenameJavaElementDescriptor descriptor= RefactoringSignatureDescriptorFactory.createRenameJavaElementDescriptor(IJavaRefactorings.RENAME_TYPE);
+		descriptor.setJavaElement(type);
+		descriptor.setNewName("Monitor");
+		descriptor.setUpdateReferences(true);
+		descriptor.setUpdateTextualOccurrences(true);
+		RenameResult result= assertSameResults(descriptor);
+
+		for (int i= 0; i < UNIT_COUNT; i++) {
+			String contents= result.fContents.get(getPackageP().getCompilationUnit("B" + i + ".java").getHandleIdentifier());
+			switch (i % 4) {
+				case 0:
+					assertTrue(contents.contains("/** Reports to a p.Monitor. */"));
+					assertTrue(contents.contains("// a Monitor is set up elsewhere"));
+					break;
+				case 1:
+					assertTrue(contents.contains("Monitor t; // the Monitor"));
+					break;
+				default:
+					assertNull(contents);
+					break;
+			}
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -31,6 +31,7 @@ import org.junit.runners.Suite;
 		NLSSourceModifierTest1d8.class,
 		NLSHintTest.class,
 		NLSHintHelperTest.class,
+		PropertiesFileCacheTest.class,
 		PropertyFileDocumentModellTest.class,
 		SimpleLineReaderTest.class,
 		NLSHolderTest.class,
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring.nls;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringReader;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeSet;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IRegion;
+
+import org.eclipse.jdt.internal.corext.refactoring.nls.PropertiesFileCache;
+
+/**
+ * Compares the keys that {@link PropertiesFileCache} indexes in a properties file with the keys
+ * {@link Properties#load(java.io.Reader)} reads from it.
+ */
+@RunWith(Parameterized.class)
+public class PropertiesFileCacheTest {
+
+	private static final String MARKER_KEY= "renamedKey";
+
+	@Parameter(value = 0)
+	public String name;
+
+	@Parameter(value = 1)
+	public String content;
+
+	@Parameters(name = "{0}")
+	public static Collection<String[]> data() {
+		return Arrays.asList(new String[][] {
+				{ "separators", "a=1\nb:2\nc 3\nd\t4\ne\f5\nf\n" },
+				{ "whitespace", "  a   =  1\n\tb\t: 2\n\f c  3\n d \n" },
+				{ "separators in value", "a=b=c:d\ne:f=g\nh i=j\n" },
+				{ "empty key", "=1\n:2\n" },
+				{ "escapes", "a\\ b=1\nc\\=d=2\ne\\:f:3\ng\\\\h=4\ni\\tj=5\nk\\#l=6\n\\!m=7\nn\\o=8\n" },
+				{ "unicode escapes", "\\u0041bc=1\nx\\u00e9y=2\n\\u20AC=3\na\\u0020b=4\nc\\u003dd=5\n" },
+				{ "continued key", "ab\\\n   cd=1\nef\\\n\\\ngh=2\nnext=3\n" },
+				{ "continued value", "a=1\\\n  b=2\nc=3\\\n\\\n  d=4\ne=5\n" },
+				{ "crlf", "a=1\r\nb=2\\\r\n  x=3\r\nc\\\r\n  d=4\r\n" },
+				{ "cr", "a=1\rb=2\\\r  x=3\rc=4\r" },
+				{ "comments", "# a=1\n! b=2\n  # c=3\n\t!d=4\ne=5 # f=6\n#continued\\\ng=7\nh=#8\n" },
+				{ "blank lines", "\n\n   \n\t\na=1\n\n\f\nb=2" },
+				{ "duplicate keys", "a=1\nb=2\na=3\nb\\\n  =4\nc=5\n" },
+				{ "no final line end", "a=1\nb=2" },
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, IRegion> indexKeys(String text) throws Exception {
+		Method method= PropertiesFileCache.class.getDeclaredMethod("indexKeys", String.class);
+		method.setAccessible(true);
+		return (Map<String, IRegion>) method.invoke(null, text);
+	}
+
+	private static Properties load(String text) throws Exception {
+		Properties properties= new Properties();
+		properties.load(new StringReader(text));
+		return properties;
+	}
+
+	@Test
+	public void sameKeys() throws Exception {
+		TreeSet<String> expected= new TreeSet<>(load(content).stringPropertyNames());
+		assertEquals(expected, new TreeSet<>(indexKeys(content).keySet()));
+	}
+
+	@Test
+	public void keyRegions() throws Exception {
+		for (Map.Entry<String, IRegion> entry : indexKeys(content).entrySet()) {
+			IRegion region= entry.getValue();
+			int end= region.getOffset() + region.getLength();
+			String escapedKey= content.substring(region.getOffset(), end);
+
+			// the region covers the whole key ...
+			assertEquals(escapedKey, 1, load(escapedKey + "=").size());
+			assertEquals(escapedKey, entry.getKey(), load(escapedKey + "=").stringPropertyNames().iterator().next());
+			if (end < content.length())
+				assertTrue(escapedKey, "=: \t\f\r\n".indexOf(content.charAt(end)) >= 0);
+
+			// ... of the definition that takes effect
+			String renamed= content.substring(0, region.getOffset()) + MARKER_KEY + content.substring(end);
+			assertEquals(escapedKey, load(content).getProperty(entry.getKey()), load(renamed).getProperty(MARKER_KEY));
+		}
+	}
+
+	@Test
+	public void keyRegionsOfDocument() throws Exception {
+		Document document= new Document(content);
+		Map<String, IRegion> keys= indexKeys(content);
+		for (String key : load(content).stringPropertyNames()) {
+			IRegion region= PropertiesFileCache.getKeyRegion(document, key);
+			assertNotNull(key, region);
+			assertEquals(key, keys.get(key), region);
+		}
+	}
+}
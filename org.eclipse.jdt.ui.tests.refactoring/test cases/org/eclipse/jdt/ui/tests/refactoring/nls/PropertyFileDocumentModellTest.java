@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -281,6 +281,114 @@ public class PropertyFileDocumentModellTest {
 				"org.eclipse.what value\n", props.get());
 	}
 
+	@Test
+	public void insertIntoDocWithTies() throws Exception {
+		Document props= new Document(
+				"Test_C=value\n" +
+				"Test_A=value\n");
+
+		insert(props, "Test_B", "value");
+
+		assertEquals(
+				"Test_C=value\n" +
+				"Test_A=value\n" +
+				"Test_B=value\n", props.get());
+	}
+
+	@Test
+	public void insertIntoDocWithTies2() throws Exception {
+		Document props= new Document(
+				"Test_A=value\n" +
+				"Test_C=value\n" +
+				"Test_A2=value\n");
+
+		insert(props, "Test_B", "value");
+
+		assertEquals(
+				"Test_A=value\n" +
+				"Test_C=value\n" +
+				"Test_A2=value\n" +
+				"Test_B=value\n", props.get());
+	}
+
+	@Test
+	public void insertIntoDocAfterSeparatorPrefix() throws Exception {
+		Document props= new Document(
+				"org=value\n" +
+				"org.eclipse=value\n" +
+				"org.apache.x=value\n");
+
+		insert(props, "org.eclipse.ui", "value");
+
+		assertEquals(
+				"org=value\n" +
+				"org.eclipse=value\n" +
+				"org.eclipse.ui=value\n" +
+				"org.apache.x=value\n", props.get());
+	}
+
+	@Test
+	public void insertSeparatorPrefixedKeys() throws Exception {
+		Document props= new Document(
+				"a=value\n" +
+				".a=value\n" +
+				"b=value\n");
+
+		insert(props, new KeyValuePair[] {new KeyValuePair(".b", "value"), new KeyValuePair("_a", "value")});
+
+		assertEquals(
+				"_a=value\n" +
+				"a=value\n" +
+				".a=value\n" +
+				".b=value\n" +
+				"b=value\n", props.get());
+	}
+
+	@Test
+	public void insertDuplicateKey() throws Exception {
+		Document props= new Document(
+				"key=value1\n" +
+				"other=value2\n" +
+				"key=value3\n");
+
+		insert(props, "key", "value4");
+
+		assertEquals(
+				"key=value1\n" +
+				"other=value2\n" +
+				"key=value3\n" +
+				"key=value4\n", props.get());
+	}
+
+	@Test
+	public void insertBeforeFirstPair() throws Exception {
+		Document props= new Document(
+				"b.1=value\n" +
+				"b.2=value\n");
+
+		insert(props, "a", "value");
+
+		assertEquals(
+				"a=value\n" +
+				"b.1=value\n" +
+				"b.2=value\n", props.get());
+	}
+
+	@Test
+	public void manyInsertsBeforeFirstPair() throws Exception {
+		Document props= new Document(
+				"b.1=value\n" +
+				"b.2=value\n");
+
+		insert(props, new KeyValuePair[] {new KeyValuePair("a.2", "value"), new KeyValuePair("a.1", "value")});
+
+		assertEquals(
+				"a.1=value\n" +
+				"a.2=value\n" +
+				"b.1=value\n" +
+				"b.2=value\n", props.get());
+	}
+
 	@Test
 	public void removingOfKey() throws Exception {
 		Document props= new Document("org.eclipse.1=value1\n" + "org.eclipse.2=value2\n" + "org.eclipse.3=value3\n");
@@ -314,6 +422,17 @@ public class PropertyFileDocumentModellTest {
 		assertEquals("org.eclipse.1=value1\n" + "org.eclipse.2=value2\n", props.get());
 	}
 
+	@Test
+	public void removingOfDuplicateKey() throws Exception {
+		Document props= new Document("key=value1\n" + "other=value2\n" + "key=value3\n");
+		PropertyFileDocumentModel modell= new PropertyFileDocumentModel(props);
+
+		DeleteEdit deleteEdit= modell.remove("key");
+		deleteEdit.apply(props);
+
+		assertEquals("other=value2\n" + "key=value3\n", props.get());
+	}
+
 	@Test
 	public void replacementOfKeyValuePair() throws Exception {
 		Document props= new Document("org.eclipse.1=value1\n" + "org.eclipse.2=value2\n" + "org.eclipse.3=value3\n");
@@ -325,6 +444,17 @@ public class PropertyFileDocumentModellTest {
 		assertEquals("org.eclipse.1=value1\n" + "org.1=value\n" + "org.eclipse.3=value3\n", props.get());
 	}
 
+	@Test
+	public void replacementOfDuplicateKey() throws Exception {
+		Document props= new Document("key=value1\n" + "other=value2\n" + "key=value3\n");
+		PropertyFileDocumentModel modell= new PropertyFileDocumentModel(props);
+
+		ReplaceEdit replaceEdit= modell.replace(new KeyValuePair("key", "value\n"), new KeyValuePair("key", "value4\n"));
+		replaceEdit.apply(props);
+
+		assertEquals("key=value4\n" + "other=value2\n" + "key=value3\n", props.get());
+	}
+
 	// Escaping stuff
 	@Test
 	public void escapingOfComments() throws Exception {
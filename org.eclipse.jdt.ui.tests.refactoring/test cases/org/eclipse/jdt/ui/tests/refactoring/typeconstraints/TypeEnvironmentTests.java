@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -45,6 +45,7 @@ import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
 import org.eclipse.jdt.internal.corext.dom.HierarchicalASTVisitor;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TType;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TypeEnvironment;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints2.TTypes;
 
 import org.eclipse.jdt.ui.tests.refactoring.infra.AbstractJunit4CUTestCase;
 import org.eclipse.jdt.ui.tests.refactoring.infra.RefactoringTestPlugin;
@@ -233,16 +234,26 @@ public class TypeEnvironmentTests extends AbstractJunit4CUTestCase {
 	//---- generic assigment test ----------------------------------------------
 
 	private void performGenericAssignmentTest() throws Exception {
+		performGenericAssignmentTest(false);
+	}
+
+	private void performGenericAssignmentTest(boolean subTypeClosure) throws Exception {
 		ASTNode node= createAST(MyTestSetup.getGenericPackage());
 		TypeBindingCollector collector= new TypeBindingCollector();
 		node.accept(collector);
-		testBindings(collector.getResult());
+		testBindings(collector.getResult(), subTypeClosure);
 		testAssignment(collector.getWildcards());
 	}
 
 	private void testBindings(ITypeBinding[] bindings) throws Exception {
+		testBindings(bindings, false);
+	}
+
+	private void testBindings(ITypeBinding[] bindings, boolean subTypeClosure) throws Exception {
 		TType[] types= new TType[bindings.length];
 		TypeEnvironment environment= new TypeEnvironment();
+		if (subTypeClosure)
+			environment.enableSubTypeClosure();
 		for (int i= 0; i < bindings.length; i++) {
 			types[i]= environment.create(bindings[i]);
 			assertEquals("Not same name", bindings[i].getName(), types[i].getName());
@@ -263,6 +274,20 @@ public class TypeEnvironmentTests extends AbstractJunit4CUTestCase {
 		for (int i= 0; i < bindings.length; i++) {
 			assertEquals("Equal to second environment", types[i], secondEnvironment.create(bindings[i]));
 		}
+		if (subTypeClosure) {
+			// declarations and erasures must be assignable as without the closure
+			TType[] secondTypes= new TType[bindings.length];
+			for (int i= 0; i < bindings.length; i++) {
+				secondTypes[i]= secondEnvironment.create(bindings[i]);
+			}
+			for (int o= 0; o < bindings.length; o++) {
+				for (int i= 0; i < bindings.length; i++) {
+					assertEquals("Different declaration assignment rule(" +
+						PrettySignatures.get(bindings[i]) + "= " + PrettySignatures.get(bindings[o]) + "): ",
+						TTypes.canAssignTo(secondTypes[o], secondTypes[i]), TTypes.canAssignTo(types[o], types[i]));
+				}
+			}
+		}
 		ITypeBinding[] restoredBindings= TypeEnvironment.createTypeBindings(types, mts.getProject());
 		assertEquals("Not same length", restoredBindings.length, bindings.length);
 		for (int i= 0; i < restoredBindings.length; i++) {
@@ -332,6 +357,11 @@ public class TypeEnvironmentTests extends AbstractJunit4CUTestCase {
 		performGenericAssignmentTest();
 	}
 
+	@Test
+	public void testSubTypeClosureAssignments() throws Exception {
+		performGenericAssignmentTest(true);
+	}
+
 	@Test
 	public void testCaptureAssignments() throws Exception {
 		ASTNode node= createAST(MyTestSetup.getGenericPackage());
@@ -0,0 +1,239 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.junit.JUnitCore;
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.jdt.internal.junit.launcher.ITestFinder;
+import org.eclipse.jdt.internal.junit.launcher.JUnit4TestFinder;
+import org.eclipse.jdt.internal.junit.launcher.TestTypeIndex;
+
+public class TestTypeIndexTest {
+
+	private static final String KIND_ID= "org.eclipse.jdt.junit.tests.TestTypeIndexTest"; //$NON-NLS-1$
+
+	/**
+	 * Counts the searches that were not answered by the index.
+	 */
+	private static final class CountingTestFinder implements ITestFinder {
+		private final ITestFinder fFinder= new JUnit4TestFinder();
+		int fIsTestCount;
+		int fFindTestsCount;
+
+		@Override
+		public void findTestsInContainer(IJavaElement element, Set<IType> result, IProgressMonitor pm) throws CoreException {
+			fFindTestsCount++;
+			fFinder.findTestsInContainer(element, result, pm);
+		}
+
+		@Override
+		public boolean isTest(IType type) throws CoreException {
+			fIsTestCount++;
+			return fFinder.isTest(type);
+		}
+	}
+
+	private IJavaProject fProject;
+	private IPackageFragment fPackage;
+	private CountingTestFinder fFinder;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= JavaProjectHelper.createJavaProject("TestProject", "bin");
+		JavaProjectHelper.addRTJar(fProject);
+		IClasspathEntry cpe= JavaCore.newContainerEntry(JUnitCore.JUNIT4_CONTAINER_PATH);
+		JavaProjectHelper.addToClasspath(fProject, cpe);
+		JavaProjectHelper.set15CompilerOptions(fProject);
+
+		IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fProject, "src");
+		fPackage= root.createPackageFragment("p", true, null);
+		fFinder= new CountingTestFinder();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		JavaProjectHelper.delete(fProject);
+	}
+
+	private ICompilationUnit createUnit(String name, String source) throws Exception {
+		return fPackage.createCompilationUnit(name, source, false, null);
+	}
+
+	private boolean isTest(IType type) throws CoreException {
+		return TestTypeIndex.getDefault().isTest(KIND_ID, fFinder, type);
+	}
+
+	private Set<IType> findTests(IJavaElement container) throws CoreException {
+		Set<IType> result= new HashSet<>();
+		TestTypeIndex.getDefault().findTestsInContainer(KIND_ID, fFinder, container, result, null);
+		return result;
+	}
+
+	/*
+	 * Saves the edit through a working copy, which reports a fine grained delta as an editor does.
+	 */
+	private static void edit(ICompilationUnit cu, String oldText, String newText) throws Exception {
+		ICompilationUnit workingCopy= cu.getWorkingCopy(null);
+		try {
+			String source= workingCopy.getSource();
+			assertTrue(source.contains(oldText));
+			workingCopy.getBuffer().setContents(source.replace(oldText, newText));
+			workingCopy.reconcile(ICompilationUnit.NO_AST, false, null, null);
+			workingCopy.commitWorkingCopy(true, null);
+		} finally {
+			workingCopy.discardWorkingCopy();
+		}
+	}
+
+	@Test
+	public void bodyChangeKeepsEntry() throws Exception {
+		StringBuilder buf= new StringBuilder();
+		buf.append("package p;\n");
+		buf.append("import org.junit.Test;\n");
+		buf.append("\n");
+		buf.append("public class MyTest {\n");
+		buf.append("    @Test\n");
+		buf.append("    public void testFoo() {\n");
+		buf.append("        int i= 0;\n");
+		buf.append("    }\n");
+		buf.append("}\n");
+		ICompilationUnit cu= createUnit("MyTest.java", buf.toString());
+		IType type= cu.findPrimaryType();
+
+		assertTrue(isTest(type));
+		assertEquals(1, findTests(fPackage).size());
+		assertTrue(isTest(type));
+		assertEquals(1, findTests(fPackage).size());
+		assertEquals(1, fFinder.fIsTestCount);
+		assertEquals(1, fFinder.fFindTestsCount);
+
+		edit(cu, "int i= 0;", "int i= 1;");
+
+		assertTrue(isTest(type));
+		assertEquals(1, findTests(fPackage).size());
+		assertEquals(1, fFinder.fIsTestCount);
+		assertEquals(1, fFinder.fFindTestsCount);
+	}
+
+	@Test
+	public void annotationChangeDropsEntry() throws Exception {
+		StringBuilder buf= new StringBuilder();
+		buf.append("package p;\n");
+		buf.append("import org.junit.Test;\n");
+		buf.append("\n");
+		buf.append("public class MyTest {\n");
+		buf.append("    public void testFoo() {\n");
+		buf.append("    }\n");
+		buf.append("}\n");
+		ICompilationUnit cu= createUnit("MyTest.java", buf.toString());
+		IType type= cu.findPrimaryType();
+
+		assertFalse(isTest(type));
+		assertEquals(0, findTests(fPackage).size());
+		assertEquals(1, fFinder.fIsTestCount);
+
+		edit(cu, "    public void testFoo()", "    @Test\n    public void testFoo()");
+
+		assertTrue(isTest(type));
+		assertEquals(1, findTests(fPackage).size());
+		assertEquals(2, fFinder.fIsTestCount);
+		assertTrue(fFinder.fFindTestsCount >= 2);
+	}
+
+	@Test
+	public void superTypeChangeDropsEntry() throws Exception {
+		StringBuilder buf= new StringBuilder();
+		buf.append("package p;\n");
+		buf.append("import org.junit.Test;\n");
+		buf.append("\n");
+		buf.append("public abstract class BaseTest {\n");
+		buf.append("    @Test\n");
+		buf.append("    public void testFoo() {\n");
+		buf.append("    }\n");
+		buf.append("}\n");
+		createUnit("BaseTest.java", buf.toString());
+
+		buf= new StringBuilder();
+		buf.append("package p;\n");
+		buf.append("\n");
+		buf.append("public class MyTest {\n");
+		buf.append("}\n");
+		ICompilationUnit cu= createUnit("MyTest.java", buf.toString());
+		IType type= cu.findPrimaryType();
+
+		assertFalse(isTest(type));
+		assertEquals(1, fFinder.fIsTestCount);
+
+		edit(cu, "public class MyTest {", "public class MyTest extends BaseTest {");
+
+		assertTrue(isTest(type));
+		assertEquals(2, fFinder.fIsTestCount);
+	}
+
+	@Test
+	public void unsavedChangesBypassIndex() throws Exception {
+		StringBuilder buf= new StringBuilder();
+		buf.append("package p;\n");
+		buf.append("import org.junit.Test;\n");
+		buf.append("\n");
+		buf.append("public class MyTest {\n");
+		buf.append("    public void testFoo() {\n");
+		buf.append("    }\n");
+		buf.append("}\n");
+		ICompilationUnit cu= createUnit("MyTest.java", buf.toString());
+		IType type= cu.findPrimaryType();
+
+		assertFalse(isTest(type));
+
+		// an editor's unit is a primary working copy, its edits are only reported by reconcile deltas
+		cu.becomeWorkingCopy(null);
+		try {
+			String source= cu.getSource();
+			cu.getBuffer().setContents(source.replace("    public void testFoo()", "    @Test\n    public void testFoo()"));
+			cu.reconcile(ICompilationUnit.NO_AST, false, null, null);
+
+			assertTrue(isTest(type));
+			assertEquals(1, findTests(fPackage).size());
+		} finally {
+			cu.discardWorkingCopy();
+		}
+
+		assertFalse(isTest(type));
+		assertEquals(0, findTests(fPackage).size());
+	}
+}
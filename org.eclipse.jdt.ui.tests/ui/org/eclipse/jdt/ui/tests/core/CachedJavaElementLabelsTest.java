@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.jface.preference.IPreferenceStore;
+import org.eclipse.jface.viewers.StyledString;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+
+import org.eclipse.jdt.ui.JavaElementLabels;
+import org.eclipse.jdt.ui.PreferenceConstants;
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+import org.eclipse.jdt.internal.ui.viewsupport.JavaElementLabelComposer;
+
+/**
+ * Tests that the labels of {@link JavaElementLabels}, which are cached, follow the changes of their
+ * elements and of the package name preferences.
+ */
+public class CachedJavaElementLabelsTest {
+
+	private static final long METHOD_FLAGS= JavaElementLabels.M_PARAMETER_TYPES | JavaElementLabels.M_PARAMETER_NAMES | JavaElementLabels.M_APP_RETURNTYPE;
+
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	private IJavaProject fJProject1;
+	private IPackageFragmentRoot fSourceFolder;
+
+	@Before
+	public void setUp() throws Exception {
+		fJProject1= pts.getProject();
+		IPreferenceStore store= PreferenceConstants.getPreferenceStore();
+		store.setValue(PreferenceConstants.APPEARANCE_COMPRESS_PACKAGE_NAMES, false);
+		fSourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		IPreferenceStore store= PreferenceConstants.getPreferenceStore();
+		store.setToDefault(PreferenceConstants.APPEARANCE_PKG_NAME_PATTERN_FOR_PKG_VIEW);
+		store.setValue(PreferenceConstants.APPEARANCE_COMPRESS_PACKAGE_NAMES, false);
+		store.setToDefault(PreferenceConstants.APPEARANCE_PKG_NAME_ABBREVIATION_PATTERN_FOR_PKG_VIEW);
+		store.setValue(PreferenceConstants.APPEARANCE_ABBREVIATE_PACKAGE_NAMES, false);
+		JavaProjectHelper.clear(fJProject1, pts.getDefaultClasspath());
+	}
+
+	private ICompilationUnit createCU(String signature) throws Exception {
+		IPackageFragment pack= fSourceFolder.createPackageFragment("org.test", false, null);
+		StringBuilder buf= new StringBuilder();
+		buf.append("package org.test;\n");
+		buf.append("public class A {\n");
+		buf.append("    " + signature + " {\n");
+		buf.append("        return 0;\n");
+		buf.append("    }\n");
+		buf.append("}\n");
+		return pack.createCompilationUnit("A.java", buf.toString(), true, null);
+	}
+
+	private static void editInWorkingCopy(ICompilationUnit cu, String oldText, String newText) throws Exception {
+		cu.becomeWorkingCopy(null);
+		try {
+			String source= cu.getSource();
+			assertTrue(source.contains(oldText));
+			cu.getBuffer().setContents(source.replace(oldText, newText));
+			cu.reconcile(ICompilationUnit.NO_AST, false, null, null);
+		} catch (Exception e) {
+			cu.discardWorkingCopy();
+			throw e;
+		}
+	}
+
+	private static StyledString composeStyledLabel(IJavaElement element, long flags, StyledString result) {
+		new JavaElementLabelComposer(result).appendElementLabel(element, flags);
+		return result;
+	}
+
+	private static void assertSameStyledLabel(StyledString expected, StyledString actual) {
+		assertEquals(expected.getString(), actual.getString());
+		assertArrayEquals(expected.getStyleRanges(), actual.getStyleRanges());
+	}
+
+	@Test
+	public void parameterRename() throws Exception {
+		ICompilationUnit cu= createCU("public int foo(int a)");
+		IMethod method= cu.getType("A").getMethod("foo", new String[] { "I" });
+		assertEquals("foo(int a) : int", JavaElementLabels.getTextLabel(method, METHOD_FLAGS));
+
+		createCU("public int foo(int count)");
+		assertEquals("foo(int count) : int", JavaElementLabels.getTextLabel(method, METHOD_FLAGS));
+
+		editInWorkingCopy(cu, "int count", "int index");
+		try {
+			assertEquals("foo(int index) : int", JavaElementLabels.getTextLabel(method, METHOD_FLAGS));
+		} finally {
+			cu.discardWorkingCopy();
+		}
+		assertEquals("foo(int count) : int", JavaElementLabels.getTextLabel(method, METHOD_FLAGS));
+	}
+
+	@Test
+	public void signatureChange() throws Exception {
+		ICompilationUnit cu= createCU("public int foo(int a)");
+		IType type= cu.getType("A");
+		IMethod method= type.getMethod("foo", new String[] { "I" });
+		assertEquals("foo(int a) : int", JavaElementLabels.getTextLabel(method, METHOD_FLAGS));
+		assertEquals("A", JavaElementLabels.getTextLabel(type, JavaElementLabels.ALL_DEFAULT));
+
+		createCU("public long foo(int a)");
+		assertEquals("foo(int a) : long", JavaElementLabels.getTextLabel(method, METHOD_FLAGS));
+
+		editInWorkingCopy(cu, "public class A {", "public class A<T> {");
+		try {
+			assertEquals("A<T>", JavaElementLabels.getTextLabel(type, JavaElementLabels.ALL_DEFAULT));
+			assertEquals("foo(int a) : long", JavaElementLabels.getTextLabel(method, METHOD_FLAGS));
+		} finally {
+			cu.discardWorkingCopy();
+		}
+		assertEquals("A", JavaElementLabels.getTextLabel(type, JavaElementLabels.ALL_DEFAULT));
+	}
+
+	@Test
+	public void packageNamePreferenceChange() throws Exception {
+		IPackageFragment pack= fSourceFolder.createPackageFragment("org.test.longname", false, null);
+		assertEquals("org.test.longname", JavaElementLabels.getTextLabel(pack, JavaElementLabels.P_COMPRESSED));
+		StyledString styledLabel= JavaElementLabels.getStyledTextLabel(pack, JavaElementLabels.P_COMPRESSED | JavaElementLabels.P_POST_QUALIFIED);
+		assertEquals("org.test.longname - TestSetupProject/src", styledLabel.getString());
+
+		IPreferenceStore store= PreferenceConstants.getPreferenceStore();
+		store.setValue(PreferenceConstants.APPEARANCE_COMPRESS_PACKAGE_NAMES, true);
+		store.setValue(PreferenceConstants.APPEARANCE_PKG_NAME_PATTERN_FOR_PKG_VIEW, "1~.");
+		assertEquals("o~.t~.longname", JavaElementLabels.getTextLabel(pack, JavaElementLabels.P_COMPRESSED));
+		styledLabel= JavaElementLabels.getStyledTextLabel(pack, JavaElementLabels.P_COMPRESSED | JavaElementLabels.P_POST_QUALIFIED);
+		assertEquals("o~.t~.longname - TestSetupProject/src", styledLabel.getString());
+
+		store.setValue(PreferenceConstants.APPEARANCE_PKG_NAME_PATTERN_FOR_PKG_VIEW, "0");
+		assertEquals("longname", JavaElementLabels.getTextLabel(pack, JavaElementLabels.P_COMPRESSED));
+
+		store.setValue(PreferenceConstants.APPEARANCE_ABBREVIATE_PACKAGE_NAMES, true);
+		store.setValue(PreferenceConstants.APPEARANCE_PKG_NAME_ABBREVIATION_PATTERN_FOR_PKG_VIEW, "org.test=@OT");
+		assertEquals("@OT.longname", JavaElementLabels.getTextLabel(pack, JavaElementLabels.P_COMPRESSED));
+
+		store.setValue(PreferenceConstants.APPEARANCE_ABBREVIATE_PACKAGE_NAMES, false);
+		store.setValue(PreferenceConstants.APPEARANCE_COMPRESS_PACKAGE_NAMES, false);
+		assertEquals("org.test.longname", JavaElementLabels.getTextLabel(pack, JavaElementLabels.P_COMPRESSED));
+	}
+
+	@Test
+	public void styledLabelRoundTrip() throws Exception {
+		ICompilationUnit cu= createCU("public int foo(int a)");
+		IType type= cu.getType("A");
+		IMethod method= type.getMethod("foo", new String[] { "I" });
+		long[] allFlags= {
+				METHOD_FLAGS | JavaElementLabels.M_POST_QUALIFIED | JavaElementLabels.COLORIZE,
+				JavaElementLabels.ALL_DEFAULT | JavaElementLabels.ALL_POST_QUALIFIED | JavaElementLabels.COLORIZE,
+				JavaElementLabels.M_FULLY_QUALIFIED | JavaElementLabels.M_APP_RETURNTYPE | JavaElementLabels.APPEND_ROOT_PATH | JavaElementLabels.COLORIZE
+		};
+		IJavaElement[] elements= { method, type, cu, cu.getParent() };
+		for (long flags : allFlags) {
+			for (IJavaElement element : elements) {
+				StyledString expected= composeStyledLabel(element, flags, new StyledString());
+
+				// composed and cached, then taken from the cache
+				StyledString first= new StyledString();
+				JavaElementLabels.getElementLabel(element, flags, first);
+				assertSameStyledLabel(expected, first);
+				StyledString second= new StyledString();
+				JavaElementLabels.getElementLabel(element, flags, second);
+				assertSameStyledLabel(expected, second);
+
+				// the ranges of a cached label are relative to where it is appended
+				StyledString appended= new StyledString("prefix ", StyledString.COUNTER_STYLER);
+				JavaElementLabels.getElementLabel(element, flags, appended);
+				assertSameStyledLabel(composeStyledLabel(element, flags, new StyledString("prefix ", StyledString.COUNTER_STYLER)), appended);
+			}
+		}
+		StyledString methodLabel= new StyledString();
+		JavaElementLabels.getElementLabel(method, allFlags[0], methodLabel);
+		assertEquals("foo(int a) : int - org.test.A", methodLabel.getString());
+		assertEquals(2, methodLabel.getStyleRanges().length);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020 IBM Corporation and others.
+ * Copyright (c) 2020, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -39,6 +39,10 @@ ImportOrganizeTest.class,
 ImportOrganizeTest1d8.class,
 JavaElementLabelsTest.class,
 JavaElementLabelsTest1d8.class,
+CachedJavaElementLabelsTest.class,
+JavaElementAdornmentCacheTest.class,
+ProblemSeverityIndexTest.class,
+ProblemMarkerManagerTest.class,
 BindingLabelsTest.class,
 BindingLabels18Test.class,
 JavaElementPropertyTesterTest.class,
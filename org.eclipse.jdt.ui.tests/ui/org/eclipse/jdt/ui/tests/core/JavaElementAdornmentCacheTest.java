@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+
+import org.eclipse.jdt.ui.JavaElementImageDescriptor;
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+import org.eclipse.jdt.internal.ui.viewsupport.JavaElementImageProvider;
+
+/**
+ * Tests that the adornments of members, which are cached, follow the changes of the members.
+ */
+public class JavaElementAdornmentCacheTest {
+
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	private IJavaProject fJProject1;
+	private IPackageFragment fPackage;
+	private JavaElementImageProvider fImageProvider;
+
+	@Before
+	public void setUp() throws Exception {
+		fJProject1= pts.getProject();
+		IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		fPackage= sourceFolder.createPackageFragment("test1", false, null);
+		fImageProvider= new JavaElementImageProvider();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fImageProvider.dispose();
+		JavaProjectHelper.clear(fJProject1, pts.getDefaultClasspath());
+	}
+
+	private int getAdornments(IJavaElement element) {
+		JavaElementImageDescriptor descriptor= (JavaElementImageDescriptor) fImageProvider.getJavaImageDescriptor(element, JavaElementImageProvider.OVERLAY_ICONS);
+		return descriptor.getAdronments();
+	}
+
+	private void assertAdornments(IJavaElement element, int expected, int mask) {
+		// the second lookup is answered from the cache
+		assertEquals(element.getElementName(), expected, getAdornments(element) & mask);
+		assertEquals(element.getElementName(), expected, getAdornments(element) & mask);
+	}
+
+	private ICompilationUnit createCU(String members) throws Exception {
+		StringBuilder buf= new StringBuilder();
+		buf.append("package test1;\n");
+		buf.append("public class E {\n");
+		buf.append(members);
+		buf.append("}\n");
+		return fPackage.createCompilationUnit("E.java", buf.toString(), true, null);
+	}
+
+	private static void editInWorkingCopy(ICompilationUnit cu, String oldText, String newText) throws Exception {
+		cu.becomeWorkingCopy(null);
+		try {
+			reconcile(cu, oldText, newText);
+		} catch (Exception e) {
+			cu.discardWorkingCopy();
+			throw e;
+		}
+	}
+
+	private static void reconcile(ICompilationUnit workingCopy, String oldText, String newText) throws Exception {
+		String source= workingCopy.getSource();
+		assertTrue(source.contains(oldText));
+		workingCopy.getBuffer().setContents(source.replace(oldText, newText));
+		workingCopy.reconcile(ICompilationUnit.NO_AST, false, null, null);
+	}
+
+	@Test
+	public void modifierChange() throws Exception {
+		int staticFinal= JavaElementImageDescriptor.STATIC | JavaElementImageDescriptor.FINAL;
+		ICompilationUnit cu= createCU("    int f;\n    void m() {\n    }\n");
+		IField field= cu.getType("E").getField("f");
+		IMethod method= cu.getType("E").getMethod("m", new String[0]);
+		assertAdornments(field, 0, staticFinal);
+		assertAdornments(method, 0, staticFinal);
+
+		createCU("    static final int f= 1;\n    void m() {\n    }\n");
+		assertAdornments(field, staticFinal, staticFinal);
+		assertAdornments(method, 0, staticFinal);
+
+		editInWorkingCopy(cu, "void m()", "static void m()");
+		try {
+			assertAdornments(method, JavaElementImageDescriptor.STATIC, staticFinal);
+			assertAdornments(field, staticFinal, staticFinal);
+
+			reconcile(cu, "static final int f", "final int f");
+			assertAdornments(field, JavaElementImageDescriptor.FINAL, staticFinal);
+		} finally {
+			cu.discardWorkingCopy();
+		}
+		assertAdornments(method, 0, staticFinal);
+		assertAdornments(field, staticFinal, staticFinal);
+	}
+
+	@Test
+	public void mainMethodChange() throws Exception {
+		ICompilationUnit cu= createCU("    void m() {\n    }\n");
+		IType type= cu.getType("E");
+		assertAdornments(type, 0, JavaElementImageDescriptor.RUNNABLE);
+
+		createCU("    public static void main(String[] args) {\n    }\n");
+		assertAdornments(type, JavaElementImageDescriptor.RUNNABLE, JavaElementImageDescriptor.RUNNABLE);
+
+		editInWorkingCopy(cu, "void main(", "void run(");
+		try {
+			assertAdornments(type, 0, JavaElementImageDescriptor.RUNNABLE);
+		} finally {
+			cu.discardWorkingCopy();
+		}
+		assertAdornments(type, JavaElementImageDescriptor.RUNNABLE, JavaElementImageDescriptor.RUNNABLE);
+
+		createCU("    void m() {\n    }\n");
+		assertAdornments(type, 0, JavaElementImageDescriptor.RUNNABLE);
+	}
+}
@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.util.DisplayHelper;
+
+import org.eclipse.swt.widgets.Display;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.jdt.internal.ui.viewsupport.IProblemChangedListener;
+import org.eclipse.jdt.internal.ui.viewsupport.ProblemMarkerManager;
+
+/**
+ * Tests that {@link ProblemMarkerManager} reports the marker changes of a build in one event.
+ */
+public class ProblemMarkerManagerTest {
+
+	private IProject fProject;
+	private IFile[] fFiles;
+	private ProblemMarkerManager fManager;
+
+	/** Marker changes of {@link #fFiles} reported to {@link #fListener}, one set per event */
+	private final List<Set<IResource>> fReportedChanges= new ArrayList<>();
+
+	private final IProblemChangedListener fListener= (changedResources, isMarkerChange) -> {
+		if (isMarkerChange) {
+			Set<IResource> changed= new HashSet<>(Arrays.asList(changedResources));
+			changed.retainAll(Arrays.asList(fFiles));
+			if (!changed.isEmpty())
+				fReportedChanges.add(changed);
+		}
+	};
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= ResourcesPlugin.getWorkspace().getRoot().getProject("ProblemMarkerManagerTest");
+		fProject.create(null);
+		fProject.open(null);
+		fFiles= new IFile[3];
+		for (int i= 0; i < fFiles.length; i++) {
+			fFiles[i]= fProject.getFile("File" + i + ".txt");
+			fFiles[i].create(new ByteArrayInputStream(new byte[0]), true, null);
+		}
+		fManager= new ProblemMarkerManager();
+		fManager.addListener(fListener);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fManager.removeListener(fListener);
+		fProject.delete(true, true, null);
+	}
+
+	@Test
+	public void markerChangesDuringBuild() throws Exception {
+		Job build= new Job("ProblemMarkerManagerTest build") {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				try {
+					for (IFile file : fFiles) {
+						IMarker marker= file.createMarker(IMarker.PROBLEM);
+						marker.setAttribute(IMarker.SEVERITY, IMarker.SEVERITY_ERROR);
+						// longer than the update delay, so that each change would be reported on its own
+						Thread.sleep(500);
+					}
+				} catch (CoreException e) {
+					return e.getStatus();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return Status.CANCEL_STATUS;
+				}
+				return Status.OK_STATUS;
+			}
+
+			@Override
+			public boolean belongsTo(Object family) {
+				return family == ResourcesPlugin.FAMILY_MANUAL_BUILD;
+			}
+		};
+		build.schedule();
+
+		Display display= Display.getDefault();
+		boolean reported= new DisplayHelper() {
+			@Override
+			protected boolean condition() {
+				return build.getResult() != null && !fReportedChanges.isEmpty();
+			}
+		}.waitForCondition(display, 10000);
+		assertTrue(reported);
+		assertTrue(build.getResult().isOK());
+
+		// give further events the chance to arrive
+		DisplayHelper.sleep(display, 1000);
+		assertEquals(1, fReportedChanges.size());
+		assertEquals(new HashSet<>(Arrays.asList(fFiles)), fReportedChanges.get(0));
+	}
+}
@@ -0,0 +1,222 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.jdt.core.IJavaModelMarker;
+
+import org.eclipse.jdt.internal.ui.viewsupport.ProblemSeverityIndex;
+
+/**
+ * Compares the severities of {@link ProblemSeverityIndex} with
+ * {@link IResource#findMaxProblemSeverity(String, boolean, int)} while markers and resources
+ * change.
+ */
+public class ProblemSeverityIndexTest {
+
+	private static final int[] DEPTHS= { IResource.DEPTH_ZERO, IResource.DEPTH_ONE, IResource.DEPTH_INFINITE };
+
+	private IProject fProject;
+	private IFolder fFolderA;
+	private IFolder fFolderB;
+	private IFile fFileA1;
+	private IFile fFileA2;
+	private IFile fFileB;
+	private IFile fFileTop;
+	private ProblemSeverityIndex fIndex;
+
+	@Before
+	public void setUp() throws Exception {
+		IWorkspace workspace= ResourcesPlugin.getWorkspace();
+		fProject= workspace.getRoot().getProject("ProblemSeverityIndexTest");
+		fProject.create(null);
+		fProject.open(null);
+		IFolder src= createFolder(fProject.getFolder("src"));
+		fFolderA= createFolder(src.getFolder("a"));
+		fFolderB= createFolder(src.getFolder("b"));
+		fFileA1= createFile(fFolderA.getFile("A1.txt"));
+		fFileA2= createFile(fFolderA.getFile("A2.txt"));
+		fFileB= createFile(fFolderB.getFile("B.txt"));
+		fFileTop= createFile(fProject.getFile("Top.txt"));
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		if (fIndex != null)
+			fIndex.uninstall();
+		if (fProject.exists())
+			fProject.delete(true, true, null);
+	}
+
+	private static IFolder createFolder(IFolder folder) throws CoreException {
+		folder.create(true, true, null);
+		return folder;
+	}
+
+	private static IFile createFile(IFile file) throws CoreException {
+		file.create(new ByteArrayInputStream(new byte[0]), true, null);
+		return file;
+	}
+
+	private static IMarker createMarker(IResource resource, String type, int severity) throws CoreException {
+		IMarker marker= resource.createMarker(type);
+		marker.setAttribute(IMarker.SEVERITY, severity);
+		return marker;
+	}
+
+	private void installIndex() throws Exception {
+		fIndex= new ProblemSeverityIndex();
+		fIndex.install();
+		Job.getJobManager().join(ProblemSeverityIndex.class, null);
+		assertTrue(fIndex.isReady());
+	}
+
+	private void assertIndex() throws CoreException {
+		assertTrue(fIndex.isReady());
+		List<IResource> resources= new ArrayList<>();
+		resources.add(fProject.getWorkspace().getRoot());
+		if (fProject.isAccessible()) {
+			fProject.accept(resource -> {
+				resources.add(resource);
+				return true;
+			});
+		}
+		for (IResource resource : resources) {
+			for (int depth : DEPTHS) {
+				int expected= resource.findMaxProblemSeverity(IMarker.PROBLEM, true, depth);
+				assertEquals(resource.getFullPath() + ", depth " + depth, expected, fIndex.findMaxProblemSeverity(resource, depth));
+			}
+		}
+	}
+
+	private void assertNoSeverity(IResource resource) throws CoreException {
+		for (int depth : DEPTHS) {
+			assertEquals(resource.getFullPath() + ", depth " + depth, -1, fIndex.findMaxProblemSeverity(resource, depth));
+		}
+	}
+
+	@Test
+	public void markerAddChangeDelete() throws Exception {
+		createMarker(fFileA1, IMarker.PROBLEM, IMarker.SEVERITY_WARNING);
+		installIndex();
+		assertIndex();
+
+		IMarker error= createMarker(fFileA2, IJavaModelMarker.JAVA_MODEL_PROBLEM_MARKER, IMarker.SEVERITY_ERROR);
+		IMarker info= createMarker(fFolderB, IMarker.PROBLEM, IMarker.SEVERITY_INFO);
+		IMarker task= createMarker(fFileB, IMarker.TASK, IMarker.SEVERITY_ERROR);
+		assertIndex();
+
+		error.setAttribute(IMarker.SEVERITY, IMarker.SEVERITY_INFO);
+		info.setAttribute(IMarker.SEVERITY, IMarker.SEVERITY_WARNING);
+		task.setAttribute(IMarker.SEVERITY, IMarker.SEVERITY_WARNING);
+		assertIndex();
+
+		error.setAttribute(IMarker.MESSAGE, "unrelated change");
+		assertIndex();
+
+		// several changes in one delta
+		IMarker[] top= new IMarker[1];
+		ResourcesPlugin.getWorkspace().run(monitor -> {
+			top[0]= createMarker(fFileTop, IMarker.PROBLEM, IMarker.SEVERITY_ERROR);
+			createMarker(fFileB, IMarker.PROBLEM, IMarker.SEVERITY_ERROR);
+			error.setAttribute(IMarker.SEVERITY, IMarker.SEVERITY_ERROR);
+			info.delete();
+		}, null);
+		assertIndex();
+
+		error.delete();
+		top[0].delete();
+		task.delete();
+		assertIndex();
+
+		fProject.deleteMarkers(IMarker.PROBLEM, true, IResource.DEPTH_INFINITE);
+		assertIndex();
+		assertNoSeverity(fProject);
+	}
+
+	@Test
+	public void resourceMoveDelete() throws Exception {
+		installIndex();
+		createMarker(fFileA1, IMarker.PROBLEM, IMarker.SEVERITY_ERROR);
+		createMarker(fFileA2, IMarker.PROBLEM, IMarker.SEVERITY_INFO);
+		createMarker(fFolderA, IMarker.PROBLEM, IMarker.SEVERITY_WARNING);
+		createMarker(fFileB, IMarker.PROBLEM, IMarker.SEVERITY_WARNING);
+		assertIndex();
+
+		fFileA1.move(fFolderB.getFile("A1.txt").getFullPath(), true, null);
+		assertIndex();
+		assertNoSeverity(fFileA1);
+
+		IFolder movedFolder= fProject.getFolder("src/c");
+		fFolderA.move(movedFolder.getFullPath(), true, null);
+		assertIndex();
+		assertNoSeverity(fFolderA);
+		assertNoSeverity(fFileA2);
+
+		fFolderB.getFile("A1.txt").delete(true, null);
+		assertIndex();
+
+		movedFolder.delete(true, null);
+		assertIndex();
+		assertNoSeverity(movedFolder);
+
+		fFolderB.getParent().delete(true, null);
+		assertIndex();
+		assertNoSeverity(fFileB);
+		assertNoSeverity(fProject);
+	}
+
+	@Test
+	public void projectCloseOpen() throws Exception {
+		installIndex();
+		createMarker(fFileA1, IMarker.PROBLEM, IMarker.SEVERITY_ERROR);
+		createMarker(fProject, IMarker.PROBLEM, IMarker.SEVERITY_INFO);
+		createMarker(fFileB, IMarker.PROBLEM, IMarker.SEVERITY_WARNING);
+		assertIndex();
+
+		fProject.close(null);
+		assertIndex();
+		assertNoSeverity(fProject);
+		assertNoSeverity(fFileA1);
+
+		fProject.open(null);
+		assertIndex();
+		assertEquals(IMarker.SEVERITY_ERROR, fIndex.findMaxProblemSeverity(fProject, IResource.DEPTH_INFINITE));
+
+		fProject.delete(true, true, null);
+		assertIndex();
+		assertNoSeverity(fProject);
+	}
+}
@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.jarexport;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.jar.JarOutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.jdt.internal.corext.refactoring.util.ConcurrentTaskRunner;
+import org.eclipse.jdt.internal.jarpackager.JarPackagerUtilCore;
+
+import org.eclipse.jdt.ui.JavaUI;
+
+/**
+ * Compares the entries that {@link JarPackagerUtilCore#writeArchive} copies from an archive when
+ * they are read ahead on worker threads with the entries copied by the sequential writer.
+ */
+public class ArchiveExportTests {
+
+	private static final int ENTRY_COUNT= 200;
+
+	/**
+	 * The name, CRC and content of one entry of an exported archive.
+	 */
+	private static final class ExportedEntry {
+		final String fName;
+		final long fCrc;
+		final byte[] fContent;
+
+		ExportedEntry(String name, long crc, byte[] content) {
+			fName= name;
+			fCrc= crc;
+			fContent= content;
+		}
+	}
+
+	private File fArchive;
+
+	@Before
+	public void setUp() throws Exception {
+		fArchive= File.createTempFile("ArchiveExportTests", ".jar");
+		Random random= new Random(42);
+		try (ZipOutputStream out= new ZipOutputStream(new FileOutputStream(fArchive))) {
+			out.putNextEntry(new ZipEntry("META-INF/MANIFEST.MF"));
+			out.write("Manifest-Version: 1.0\n".getBytes());
+			for (int i= 0; i < ENTRY_COUNT; i++) {
+				if (i % 20 == 0) {
+					out.putNextEntry(new ZipEntry("p" + i / 20 + "/"));
+				}
+				int size;
+				if (i == ENTRY_COUNT / 2) {
+					size= 3 * 1024 * 1024; // too large to be read ahead
+				} else if (i % 7 == 0) {
+					size= 0;
+				} else {
+					size= random.nextInt(64 * 1024);
+				}
+				byte[] content= new byte[size];
+				// compressible, but not uniform
+				for (int j= 0; j < size; j++) {
+					content[j]= (byte) (random.nextInt(16) + 'a');
+				}
+				out.putNextEntry(new ZipEntry("p" + i / 20 + "/E" + i + ".class"));
+				out.write(content);
+			}
+		}
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fArchive.delete();
+	}
+
+	private List<ExportedEntry> export(boolean isCompressed, int sequentialThreshold) throws Exception {
+		int previous= ConcurrentTaskRunner.debugSetSequentialThreshold(sequentialThreshold);
+		ByteArrayOutputStream bytes= new ByteArrayOutputStream();
+		try (ZipFile zipFile= new ZipFile(fArchive)) {
+			MultiStatus status= new MultiStatus(JavaUI.ID_PLUGIN, 0, "", null);
+			try (JarOutputStream out= new JarOutputStream(bytes)) {
+				JarPackagerUtilCore.writeArchive(zipFile, true, isCompressed, out, new HashSet<>(), status, new NullProgressMonitor());
+			}
+			assertTrue(status.toString(), status.isOK());
+		} finally {
+			ConcurrentTaskRunner.debugSetSequentialThreshold(previous);
+		}
+
+		List<ExportedEntry> entries= new ArrayList<>();
+		try (ZipInputStream in= new ZipInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			ZipEntry entry;
+			while ((entry= in.getNextEntry()) != null) {
+				byte[] content= in.readAllBytes();
+				// the CRC of deflated entries is only known after reading them
+				entries.add(new ExportedEntry(entry.getName(), entry.getCrc(), content));
+			}
+		}
+		return entries;
+	}
+
+	private void assertSameExport(boolean isCompressed) throws Exception {
+		List<ExportedEntry> sequential= export(isCompressed, Integer.MAX_VALUE);
+		List<ExportedEntry> parallel= export(isCompressed, 0);
+
+		assertEquals(sequential.size(), parallel.size());
+		for (int i= 0; i < sequential.size(); i++) {
+			ExportedEntry expected= sequential.get(i);
+			ExportedEntry actual= parallel.get(i);
+			assertEquals(expected.fName, actual.fName);
+			assertEquals(expected.fName, expected.fCrc, actual.fCrc);
+			assertArrayEquals(expected.fName, expected.fContent, actual.fContent);
+		}
+
+		try (ZipFile source= new ZipFile(fArchive)) {
+			int files= 0;
+			for (ExportedEntry entry : parallel) {
+				if (entry.fName.endsWith("/"))
+					continue;
+				files++;
+				ZipEntry sourceEntry= source.getEntry(entry.fName);
+				assertEquals(entry.fName, sourceEntry.getCrc(), entry.fCrc);
+				CRC32 crc= new CRC32();
+				crc.update(entry.fContent);
+				assertEquals(entry.fName, sourceEntry.getCrc(), crc.getValue());
+			}
+			// the manifest is not copied
+			assertEquals(ENTRY_COUNT, files);
+		}
+	}
+
+	@Test
+	public void compressedExport() throws Exception {
+		assertSameExport(true);
+	}
+
+	@Test
+	public void storedExport() throws Exception {
+		assertSameExport(false);
+	}
+}
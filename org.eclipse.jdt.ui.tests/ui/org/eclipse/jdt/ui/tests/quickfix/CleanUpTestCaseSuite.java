@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2021 IBM Corporation and others.
+ * Copyright (c) 2020, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -35,6 +35,7 @@ import org.junit.runners.Suite;
 	CleanUpTest16.class,
 	CleanUpAnnotationTest.class,
 	SaveParticipantTest.class,
+	FormattedContentCacheTest.class,
 	CleanUpActionTest.class,
 	NullAnnotationsCleanUpTest1d8.class
 })
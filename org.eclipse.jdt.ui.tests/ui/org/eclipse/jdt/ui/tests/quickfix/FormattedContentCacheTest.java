@@ -0,0 +1,188 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.quickfix;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.text.tests.Accessor;
+
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.Region;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.formatter.CodeFormatter;
+import org.eclipse.jdt.core.formatter.DefaultCodeFormatterConstants;
+
+import org.eclipse.jdt.internal.corext.fix.CodeFormatFix;
+
+import org.eclipse.jdt.ui.cleanup.ICleanUpFix;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.preferences.formatter.FormatterProfileManager;
+
+/**
+ * Tests that {@link CodeFormatFix} only skips formatting contents that the formatter left unchanged
+ * with the same settings and regions.
+ */
+public class FormattedContentCacheTest {
+
+	private static final String FORMATTED=
+			"package test1;\n" +
+			"\n" +
+			"public class E {\n" +
+			"\tint f;\n" +
+			"\n" +
+			"\tvoid foo() {\n" +
+			"\t}\n" +
+			"}\n";
+
+	private static final String UNFORMATTED=
+			"package test1;\n" +
+			"public class E{int f;\n" +
+			"void foo(){}}\n";
+
+	private IJavaProject fJavaProject;
+	private IPackageFragment fPackage;
+	private Accessor fCache;
+
+	@Before
+	public void setUp() throws Exception {
+		fJavaProject= JavaProjectHelper.createJavaProject("FormattedContentCacheTest", "bin");
+		Map<String, String> options= fJavaProject.getOptions(true);
+		options.putAll(DefaultCodeFormatterConstants.getEclipseDefaultSettings());
+		fJavaProject.setOptions(options);
+		IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fJavaProject, "src");
+		fPackage= root.createPackageFragment("test1", false, null);
+		fCache= new Accessor("org.eclipse.jdt.internal.corext.fix.FormattedContentCache", JavaPlugin.class.getClassLoader());
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		JavaProjectHelper.delete(fJavaProject);
+	}
+
+	/*
+	 * Makes the content unique, the cache is shared by all tests.
+	 */
+	private ICompilationUnit createCU(String content, String testName) throws Exception {
+		return fPackage.createCompilationUnit("E.java", content + "// " + testName + " " + System.nanoTime() + "\n", true, null);
+	}
+
+	private String getKey(ICompilationUnit cu, IRegion[] regions) throws Exception {
+		Map<String, String> settings= FormatterProfileManager.getProjectSettings(fJavaProject);
+		Class<?>[] types= new Class[] { int.class, String.class, IRegion[].class, String.class, Map.class };
+		Object[] args= new Object[] { Integer.valueOf(CodeFormatter.K_COMPILATION_UNIT | CodeFormatter.F_INCLUDE_COMMENTS), cu.getSource(), regions, "\n", settings };
+		String key= (String) fCache.invoke("getKey", types, args);
+		assertNotNull(key);
+		return key;
+	}
+
+	private boolean isFormatted(String key) {
+		return ((Boolean) fCache.invoke("isFormatted", new Class[] { String.class }, new Object[] { key })).booleanValue();
+	}
+
+	private static ICleanUpFix format(ICompilationUnit cu, IRegion[] regions) throws Exception {
+		return CodeFormatFix.createCleanUp(cu, regions, true, false, false, false);
+	}
+
+	private static IRegion lineRegion(ICompilationUnit cu, String line) throws Exception {
+		int offset= cu.getSource().indexOf(line);
+		assertTrue(offset >= 0);
+		return new Region(offset, line.length());
+	}
+
+	@Test
+	public void unchangedContentIsCached() throws Exception {
+		ICompilationUnit cu= createCU(FORMATTED, "unchangedContentIsCached");
+		String key= getKey(cu, null);
+		assertFalse(isFormatted(key));
+
+		assertNull(format(cu, null));
+		assertTrue(isFormatted(key));
+
+		assertNull(format(cu, null));
+		assertEquals(key, getKey(cu, null));
+	}
+
+	@Test
+	public void changedContentIsNotCached() throws Exception {
+		ICompilationUnit cu= createCU(UNFORMATTED, "changedContentIsNotCached");
+		String key= getKey(cu, null);
+
+		assertNotNull(format(cu, null));
+		assertFalse(isFormatted(key));
+
+		// the content is not changed by the fix, so it is formatted again
+		assertNotNull(format(cu, null));
+		assertFalse(isFormatted(key));
+	}
+
+	@Test
+	public void settingsChangeMissesCache() throws Exception {
+		ICompilationUnit cu= createCU(FORMATTED, "settingsChangeMissesCache");
+		String key= getKey(cu, null);
+		assertNull(format(cu, null));
+		assertTrue(isFormatted(key));
+
+		fJavaProject.setOption(DefaultCodeFormatterConstants.FORMATTER_TAB_CHAR, JavaCore.SPACE);
+		String spaceKey= getKey(cu, null);
+		assertNotEquals(key, spaceKey);
+		assertFalse(isFormatted(spaceKey));
+
+		// the tabs have to be replaced, the cached result must not be used
+		assertNotNull(format(cu, null));
+		assertFalse(isFormatted(spaceKey));
+
+		fJavaProject.setOption(DefaultCodeFormatterConstants.FORMATTER_TAB_CHAR, JavaCore.TAB);
+		assertEquals(key, getKey(cu, null));
+		assertNull(format(cu, null));
+	}
+
+	@Test
+	public void regionsChangeMissesCache() throws Exception {
+		ICompilationUnit cu= createCU(FORMATTED.replace("\tvoid foo() {\n", "\tvoid  foo( ) {\n"), "regionsChangeMissesCache");
+		IRegion[] formattedRegions= new IRegion[] { lineRegion(cu, "\tint f;") };
+		IRegion[] unformattedRegions= new IRegion[] { lineRegion(cu, "\tint f;"), lineRegion(cu, "\tvoid  foo( ) {") };
+
+		String key= getKey(cu, formattedRegions);
+		assertNull(format(cu, formattedRegions));
+		assertTrue(isFormatted(key));
+
+		String otherKey= getKey(cu, unformattedRegions);
+		assertNotEquals(key, otherKey);
+		assertFalse(isFormatted(otherKey));
+		assertFalse(isFormatted(getKey(cu, null)));
+
+		assertNotNull(format(cu, unformattedRegions));
+		assertFalse(isFormatted(otherKey));
+		assertNotNull(format(cu, null));
+	}
+}
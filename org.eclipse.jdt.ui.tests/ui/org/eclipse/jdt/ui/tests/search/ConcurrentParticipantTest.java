@@ -0,0 +1,187 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.search;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+
+import org.eclipse.core.resources.IProject;
+
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+
+import org.eclipse.jdt.ui.search.IQueryParticipant;
+import org.eclipse.jdt.ui.search.ISearchRequestor;
+import org.eclipse.jdt.ui.search.PatternQuerySpecification;
+import org.eclipse.jdt.ui.search.QuerySpecification;
+import org.eclipse.jdt.ui.tests.core.rules.JUnitSourceSetup;
+
+import org.eclipse.jdt.internal.ui.search.JavaSearchQuery;
+import org.eclipse.jdt.internal.ui.search.JavaSearchResult;
+import org.eclipse.jdt.internal.ui.search.JavaSearchScopeFactory;
+import org.eclipse.jdt.internal.ui.search.SearchParticipantDescriptor;
+import org.eclipse.jdt.internal.ui.search.SearchParticipantRecord;
+import org.eclipse.jdt.internal.ui.search.SearchParticipantsExtensionPoint;
+
+/**
+ * Tests the participants that run concurrently with the engine search of a {@link JavaSearchQuery}.
+ */
+public class ConcurrentParticipantTest {
+
+	private static final int TIMEOUT= 10000;
+
+	private static IQueryParticipant[] fgParticipants= new IQueryParticipant[0];
+
+	@Rule
+	public JUnitSourceSetup projectSetup= new JUnitSourceSetup(new TestExtensionPoint());
+
+	static class TestExtensionPoint extends SearchParticipantsExtensionPoint {
+		@Override
+		public SearchParticipantRecord[] getSearchParticipants(IProject[] concernedProjects) {
+			SearchParticipantRecord[] records= new SearchParticipantRecord[fgParticipants.length];
+			for (int i= 0; i < records.length; i++) {
+				records[i]= new SearchParticipantRecord(new TestParticipantRecord("TestParticipant" + i + " ID", fgParticipants[i]), fgParticipants[i]);
+			}
+			return records;
+		}
+	}
+
+	static class TestParticipantRecord extends SearchParticipantDescriptor {
+
+		private final String fId;
+		private final IQueryParticipant fParticipant;
+
+		TestParticipantRecord(String id, IQueryParticipant participant) {
+			super(null);
+			fId= id;
+			fParticipant= participant;
+		}
+
+		@Override
+		protected IStatus checkSyntax() {
+			return Status.OK_STATUS;
+		}
+
+		@Override
+		protected IQueryParticipant create() throws CoreException {
+			return fParticipant;
+		}
+
+		@Override
+		public String getID() {
+			return fId;
+		}
+
+		@Override
+		protected String getNature() {
+			return JavaCore.NATURE_ID;
+		}
+	}
+
+	/**
+	 * Blocks until its monitor is canceled.
+	 */
+	static class BlockingParticipant extends TestParticipant {
+
+		private final CountDownLatch fStarted;
+		private volatile boolean fCanceled;
+
+		BlockingParticipant(CountDownLatch started) {
+			fStarted= started;
+		}
+
+		@Override
+		public void search(ISearchRequestor requestor, QuerySpecification data, IProgressMonitor monitor) throws CoreException {
+			super.search(requestor, data, monitor);
+			fStarted.countDown();
+			long end= System.currentTimeMillis() + TIMEOUT;
+			while (!monitor.isCanceled() && System.currentTimeMillis() < end) {
+				try {
+					Thread.sleep(10);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+			fCanceled= monitor.isCanceled();
+		}
+
+		boolean isCanceled() {
+			return fCanceled;
+		}
+	}
+
+	private static JavaSearchQuery createMethodRefQuery(String methodName) {
+		return new JavaSearchQuery(new PatternQuerySpecification(methodName, IJavaSearchConstants.METHOD, true, IJavaSearchConstants.REFERENCES, JavaSearchScopeFactory.getInstance().createWorkspaceScope(true), "workspace scope"));
+	}
+
+	@Test
+	public void allParticipantMatchesArrive() throws Exception {
+		fgParticipants= new IQueryParticipant[] { new TestParticipant(), new TestParticipant() };
+		try {
+			JavaSearchQuery query= SearchTestHelper.runMethodRefQuery("frufru");
+			JavaSearchResult result= (JavaSearchResult) query.getSearchResult();
+			assertEquals(40, result.getMatchCount());
+			for (Object element : result.getElements()) {
+				assertTrue(element instanceof Integer);
+			}
+		} finally {
+			fgParticipants= new IQueryParticipant[0];
+		}
+	}
+
+	@Test
+	public void cancelReachesParticipants() throws Exception {
+		CountDownLatch started= new CountDownLatch(2);
+		BlockingParticipant first= new BlockingParticipant(started);
+		BlockingParticipant second= new BlockingParticipant(started);
+		fgParticipants= new IQueryParticipant[] { first, second };
+		try {
+			JavaSearchQuery query= createMethodRefQuery("frufru");
+			IProgressMonitor monitor= new NullProgressMonitor();
+			Thread searchThread= new Thread(() -> {
+				try {
+					query.run(monitor);
+				} catch (OperationCanceledException e) {
+					// expected if the engine search sees the cancel
+				}
+			});
+			searchThread.start();
+
+			assertTrue(started.await(TIMEOUT, TimeUnit.MILLISECONDS));
+			monitor.setCanceled(true);
+			searchThread.join(TIMEOUT);
+
+			assertFalse(searchThread.isAlive());
+			assertTrue(first.isCanceled());
+			assertTrue(second.isCanceled());
+		} finally {
+			fgParticipants= new IQueryParticipant[0];
+		}
+	}
+}
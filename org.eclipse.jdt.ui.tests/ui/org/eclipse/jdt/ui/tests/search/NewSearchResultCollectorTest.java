@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.search;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.SearchMatch;
+
+import org.eclipse.jdt.ui.search.PatternQuerySpecification;
+
+import org.eclipse.jdt.internal.ui.search.JavaSearchQuery;
+import org.eclipse.jdt.internal.ui.search.JavaSearchResult;
+import org.eclipse.jdt.internal.ui.search.JavaSearchScopeFactory;
+import org.eclipse.jdt.internal.ui.search.NewSearchResultCollector;
+
+public class NewSearchResultCollectorTest {
+
+	private static final int TIMEOUT= 10000;
+
+	private JavaSearchResult fResult;
+	private IType fType;
+
+	@Before
+	public void setUp() {
+		JavaSearchQuery query= new JavaSearchQuery(new PatternQuerySpecification("foo", IJavaSearchConstants.METHOD, true, IJavaSearchConstants.REFERENCES, JavaSearchScopeFactory.getInstance().createWorkspaceScope(true), "workspace scope"));
+		fResult= new JavaSearchResult(query);
+		IProject project= ResourcesPlugin.getWorkspace().getRoot().getProject("P");
+		fType= JavaCore.create(project).getPackageFragmentRoot(project.getFolder("src")).getPackageFragment("p").getCompilationUnit("A.java").getType("A");
+	}
+
+	private void report(NewSearchResultCollector collector, int from, int to) throws Exception {
+		for (int i= from; i < to; i++) {
+			IMethod method= fType.getMethod("m" + (i % 100), new String[0]);
+			collector.acceptSearchMatch(new SearchMatch(method, SearchMatch.A_ACCURATE, i * 10, 3, null, null));
+		}
+	}
+
+	@Test
+	public void deliversAllMatches() throws Exception {
+		NewSearchResultCollector collector= new NewSearchResultCollector(fResult, false);
+		collector.beginReporting();
+		report(collector, 0, 2500);
+		collector.endReporting();
+
+		assertEquals(2500, fResult.getMatchCount());
+		assertEquals(100, fResult.getElements().length);
+	}
+
+	@Test
+	public void flushesWithoutNewMatches() throws Exception {
+		NewSearchResultCollector collector= new NewSearchResultCollector(fResult, false);
+		collector.beginReporting();
+		try {
+			report(collector, 0, 5);
+
+			long end= System.currentTimeMillis() + TIMEOUT;
+			while (fResult.getMatchCount() < 5 && System.currentTimeMillis() < end) {
+				Thread.sleep(50);
+			}
+			assertEquals(5, fResult.getMatchCount());
+
+			report(collector, 5, 12);
+			end= System.currentTimeMillis() + TIMEOUT;
+			while (fResult.getMatchCount() < 12 && System.currentTimeMillis() < end) {
+				Thread.sleep(50);
+			}
+			assertEquals(12, fResult.getMatchCount());
+		} finally {
+			collector.endReporting();
+		}
+		assertEquals(12, fResult.getMatchCount());
+	}
+
+	@Test
+	public void ignoresPotentialMatches() throws Exception {
+		NewSearchResultCollector collector= new NewSearchResultCollector(fResult, true);
+		collector.beginReporting();
+		report(collector, 0, 10);
+		collector.acceptSearchMatch(new SearchMatch(fType, SearchMatch.A_INACCURATE, 0, 1, null, null));
+		collector.endReporting();
+
+		assertEquals(10, fResult.getMatchCount());
+		assertEquals(0, fResult.getMatches(fType).length);
+	}
+}
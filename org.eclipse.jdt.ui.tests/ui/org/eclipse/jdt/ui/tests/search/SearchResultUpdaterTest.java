@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.search;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.eclipse.core.resources.IProject;
+
+import org.eclipse.search.ui.NewSearchUI;
+import org.eclipse.search.ui.text.Match;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+
+import org.eclipse.jdt.ui.search.ISearchRequestor;
+import org.eclipse.jdt.ui.search.PatternQuerySpecification;
+import org.eclipse.jdt.ui.search.QuerySpecification;
+import org.eclipse.jdt.ui.tests.core.rules.JUnitSourceSetup;
+
+import org.eclipse.jdt.internal.ui.search.JavaElementMatch;
+import org.eclipse.jdt.internal.ui.search.JavaSearchQuery;
+import org.eclipse.jdt.internal.ui.search.JavaSearchResult;
+import org.eclipse.jdt.internal.ui.search.JavaSearchScopeFactory;
+import org.eclipse.jdt.internal.ui.search.SearchParticipantRecord;
+import org.eclipse.jdt.internal.ui.search.SearchParticipantsExtensionPoint;
+import org.eclipse.jdt.internal.ui.search.SearchResultUpdater;
+
+/**
+ * Tests the incremental update of Java search results by {@link SearchResultUpdater}.
+ */
+public class SearchResultUpdaterTest {
+
+	private static final int TIMEOUT= 10000;
+
+	private static IType fgParticipantElement;
+
+	@Rule
+	public JUnitSourceSetup projectSetup= new JUnitSourceSetup(new TestExtensionPoint());
+
+	static class TestExtensionPoint extends SearchParticipantsExtensionPoint {
+		@Override
+		public SearchParticipantRecord[] getSearchParticipants(IProject[] concernedProjects) {
+			ElementParticipant participant= new ElementParticipant();
+			return new SearchParticipantRecord[] { new SearchParticipantRecord(new ConcurrentParticipantTest.TestParticipantRecord("ElementParticipant ID", participant), participant) };
+		}
+	}
+
+	/**
+	 * Reports one match on an element of the edited compilation unit.
+	 */
+	static class ElementParticipant extends TestParticipant {
+		@Override
+		public void search(ISearchRequestor requestor, QuerySpecification data, IProgressMonitor monitor) throws CoreException {
+			if (fgParticipantElement != null)
+				requestor.reportMatch(new Match(fgParticipantElement, 0, 1));
+		}
+	}
+
+	private boolean fWasIncrementalUpdateEnabled;
+	private ICompilationUnit fUnit;
+	private JavaSearchQuery fQuery;
+
+	@Before
+	public void setUp() throws Exception {
+		fWasIncrementalUpdateEnabled= SearchResultUpdater.isIncrementalUpdateEnabled();
+		SearchResultUpdater.setIncrementalUpdateEnabled(true);
+
+		IJavaProject project= JUnitSourceSetup.getProject();
+		IPackageFragmentRoot root= project.getPackageFragmentRoot(project.getProject().getFolder(JUnitSourceSetup.SRC_CONTAINER));
+		IPackageFragment pack= root.createPackageFragment("incremental", true, null);
+		StringBuilder buf= new StringBuilder();
+		buf.append("package incremental;\n");
+		buf.append("public class A {\n");
+		buf.append("    void updaterTarget() {\n");
+		buf.append("    }\n");
+		buf.append("    void caller() {\n");
+		buf.append("        updaterTarget();\n");
+		buf.append("    }\n");
+		buf.append("}\n");
+		fUnit= pack.createCompilationUnit("A.java", buf.toString(), true, null);
+		fgParticipantElement= fUnit.getType("A");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		if (fQuery != null)
+			NewSearchUI.removeQuery(fQuery);
+		fgParticipantElement= null;
+		SearchResultUpdater.setIncrementalUpdateEnabled(fWasIncrementalUpdateEnabled);
+		fUnit.getParent().delete(true, null);
+	}
+
+	private static void edit(ICompilationUnit cu, String oldText, String newText) throws Exception {
+		ICompilationUnit workingCopy= cu.getWorkingCopy(null);
+		try {
+			String source= workingCopy.getSource();
+			assertTrue(source.contains(oldText));
+			workingCopy.getBuffer().setContents(source.replace(oldText, newText));
+			workingCopy.reconcile(ICompilationUnit.NO_AST, false, null, null);
+			workingCopy.commitWorkingCopy(true, null);
+		} finally {
+			workingCopy.discardWorkingCopy();
+		}
+	}
+
+	private static int countMatches(JavaSearchResult result, Object element, boolean engineMatches) {
+		int count= 0;
+		for (Match match : result.getMatches(element)) {
+			if (match instanceof JavaElementMatch == engineMatches)
+				count++;
+		}
+		return count;
+	}
+
+	@Test
+	public void editReplacesEngineMatchesOnly() throws Exception {
+		fQuery= new JavaSearchQuery(new PatternQuerySpecification("updaterTarget", IJavaSearchConstants.METHOD, true, IJavaSearchConstants.REFERENCES, JavaSearchScopeFactory.getInstance().createWorkspaceScope(true), "workspace scope"));
+		NewSearchUI.runQueryInForeground(null, fQuery);
+		JavaSearchResult result= (JavaSearchResult) fQuery.getSearchResult();
+
+		IType type= fUnit.getType("A");
+		IMethod caller= type.getMethod("caller", new String[0]);
+		assertEquals(1, countMatches(result, caller, true));
+		assertEquals(1, countMatches(result, type, false));
+
+		edit(fUnit, "        updaterTarget();\n", "        updaterTarget();\n        updaterTarget();\n");
+
+		long end= System.currentTimeMillis() + TIMEOUT;
+		while (countMatches(result, caller, true) != 2 && System.currentTimeMillis() < end) {
+			Thread.sleep(50);
+		}
+		assertEquals(2, countMatches(result, caller, true));
+		assertEquals(1, countMatches(result, type, false));
+
+		edit(fUnit, "        updaterTarget();\n        updaterTarget();\n", "");
+
+		end= System.currentTimeMillis() + TIMEOUT;
+		while (countMatches(result, caller, true) != 0 && System.currentTimeMillis() < end) {
+			Thread.sleep(50);
+		}
+		assertEquals(0, countMatches(result, caller, true));
+		assertEquals(1, countMatches(result, type, false));
+	}
+}
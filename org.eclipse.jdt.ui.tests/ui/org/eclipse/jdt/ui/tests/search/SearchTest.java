@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,8 +22,11 @@ import org.junit.runners.Suite;
 	WorkspaceReferenceTest.class,
 	TreeContentProviderTestWrapper.class,
 	ParticipantTest.class,
+	ConcurrentParticipantTest.class,
 	FileAdapterTest.class,
-	NLSSearchTest.class
+	NLSSearchTest.class,
+	NewSearchResultCollectorTest.class,
+	SearchResultUpdaterTest.class
 })
 public class SearchTest {
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -71,14 +71,21 @@ public class CodeFormatFix implements ICleanUpFix {
 			String lineDelemiter= TextUtilities.getDefaultLineDelimiter(document);
 			int kind = (JavaModelUtil.isModuleInfo(cu) ? CodeFormatter.K_MODULE_INFO : CodeFormatter.K_COMPILATION_UNIT) | CodeFormatter.F_INCLUDE_COMMENTS;
 
+			if (regions != null && regions.length == 0)
+				return null;
+
 			TextEdit edit;
-			if (regions == null) {
-				edit= CodeFormatterUtil.reformat(kind, content, 0, lineDelemiter, formatterSettings);
+			String cacheKey= FormattedContentCache.getKey(kind, content, regions, lineDelemiter, formatterSettings);
+			if (cacheKey != null && FormattedContentCache.isFormatted(cacheKey)) {
+				edit= null;
 			} else {
-				if (regions.length == 0)
-					return null;
-
-				edit= CodeFormatterUtil.reformat(kind, content, regions, 0, lineDelemiter, formatterSettings);
+				if (regions == null) {
+					edit= CodeFormatterUtil.reformat(kind, content, 0, lineDelemiter, formatterSettings);
+				} else {
+					edit= CodeFormatterUtil.reformat(kind, content, regions, 0, lineDelemiter, formatterSettings);
+				}
+				if (cacheKey != null && edit instanceof MultiTextEdit && !edit.hasChildren())
+					FormattedContentCache.setFormatted(cacheKey);
 			}
 			if (edit != null && (!(edit instanceof MultiTextEdit) || edit.hasChildren())) {
 				formatEdit.addChild(edit);
@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.fix;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.eclipse.jface.text.IRegion;
+
+/**
+ * Remembers the contents that the formatter left unchanged, so that formatting them again with the
+ * same settings can be skipped.
+ * <p>
+ * Entries are keyed by a digest of the content, the formatter settings, the kind of code, the
+ * line delimiter and the formatted regions. Only the digests are kept, at most
+ * {@link #CACHE_SIZE} of them.
+ * </p>
+ */
+final class FormattedContentCache {
+
+	private static final int CACHE_SIZE= 2048;
+
+	private static final Map<String, Boolean> fgFormatted= new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+			return size() > CACHE_SIZE;
+		}
+	};
+
+	private FormattedContentCache() {
+	}
+
+	/**
+	 * Computes the key for formatting the given content.
+	 *
+	 * @param kind the kind of the code snippet
+	 * @param content the content to format
+	 * @param regions the regions to format, or <code>null</code> for the whole content
+	 * @param lineDelimiter the line delimiter used by the formatter
+	 * @param settings the formatter settings
+	 * @return the key, or <code>null</code> if the content can not be cached
+	 */
+	static String getKey(int kind, String content, IRegion[] regions, String lineDelimiter, Map<String, String> settings) {
+		MessageDigest digest;
+		try {
+			digest= MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+		} catch (NoSuchAlgorithmException e) {
+			return null;
+		}
+		StringBuilder header= new StringBuilder();
+		header.append(kind).append('\n');
+		header.append(lineDelimiter).append('\n');
+		if (regions == null) {
+			header.append('*');
+		} else {
+			for (IRegion region : regions) {
+				header.append(region.getOffset()).append(',').append(region.getLength()).append(';');
+			}
+		}
+		header.append('\n');
+		// settings maps do not have a defined iteration order
+		for (Map.Entry<String, String> entry : new TreeMap<>(settings).entrySet()) {
+			header.append(entry.getKey()).append('=').append(entry.getValue()).append('\n');
+		}
+		digest.update(header.toString().getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+		digest.update(content.getBytes(StandardCharsets.UTF_8));
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	/**
+	 * @param key a key computed by {@link #getKey(int, String, IRegion[], String, Map)}
+	 * @return <code>true</code> if the formatter is known to leave the content unchanged
+	 */
+	static boolean isFormatted(String key) {
+		synchronized (fgFormatted) {
+			return fgFormatted.get(key) != null;
+		}
+	}
+
+	/**
+	 * Remembers that the formatter leaves the content unchanged.
+	 *
+	 * @param key a key computed by {@link #getKey(int, String, IRegion[], String, Map)}
+	 */
+	static void setFormatted(String key) {
+		synchronized (fgFormatted) {
+			fgFormatted.put(key, Boolean.TRUE);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -72,6 +72,12 @@ public final class JarPackagerUtil {
 	private static final String META_INF_ENTRY= "META-INF"; //$NON-NLS-1$
 	private static final String REFACTORINGS_ENTRY= META_INF_ENTRY + "/REFACTORINGS.XML"; //$NON-NLS-1$
 
+	/**
+	 * Size up to which the content of a stored entry is read into memory once, instead of being
+	 * read twice to compute its crc first.
+	 */
+	public static final long MAX_BUFFERED_ENTRY_SIZE= 8 * 1024 * 1024;
+
 	private JarPackagerUtil() {
 		// Do nothing
 	}
@@ -260,6 +266,18 @@ public final class JarPackagerUtil {
 		JarPackagerUtilCore.calculateCrcAndSize(entry, stream, buffer);
 	}
 
+	/**
+	 * Calculates the crc and size of the given content and updates the entry.
+	 *
+	 * @param entry
+	 *            the jar entry to update
+	 * @param content
+	 *            the content of the entry
+	 */
+	public static void calculateCrcAndSize(final ZipEntry entry, final byte[] content) {
+		JarPackagerUtilCore.calculateCrcAndSize(entry, content);
+	}
+
 	/**
 	 * Opens the archive file at the given location.<br>
 	 * <em>Note: It is the caller's responsibility to close the returned
@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.jarpackagerfat;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.eclipse.jdt.internal.ui.jarpackager.JarPackagerUtil;
+
+/**
+ * Remembers the crc of the library archives stored by previous runnable JAR exports, so that
+ * repeated exports do not read unchanged libraries twice.
+ * <p>
+ * An archive is considered unchanged if its length and a digest of its central directory are the
+ * same as in the previous export. The central directory holds the name, crc, sizes and time of every
+ * entry, so a change of the content of any entry changes the digest. It is read when the archive is
+ * opened, so computing the digest does not read the entries.
+ * </p>
+ *
+ * @since 3.31
+ */
+final class FatJarDigestCache {
+
+	private static final class Digest {
+		final long fLength;
+		final byte[] fCentralDirectory;
+		final long fCrc;
+
+		Digest(long length, byte[] centralDirectory, long crc) {
+			fLength= length;
+			fCentralDirectory= centralDirectory;
+			fCrc= crc;
+		}
+	}
+
+	private static final int CACHE_SIZE= 512;
+
+	private static final Map<String, Digest> fgDigests= new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Digest> eldest) {
+			return size() > CACHE_SIZE;
+		}
+	};
+
+	private FatJarDigestCache() {
+	}
+
+	/**
+	 * Sets the crc and size of the given stored entry to the ones of the archive file, reading the
+	 * file only if the archive changed since it was last exported.
+	 *
+	 * @param entry the stored entry to update
+	 * @param archive the opened archive
+	 * @param file the file of the archive
+	 * @throws IOException if the file can not be read
+	 */
+	public static void calculateCrcAndSize(ZipEntry entry, ZipFile archive, File file) throws IOException {
+		String path= file.getAbsolutePath();
+		long length= file.length();
+		byte[] centralDirectory= digestCentralDirectory(archive);
+		if (centralDirectory != null) {
+			Digest digest;
+			synchronized (fgDigests) {
+				digest= fgDigests.get(path);
+			}
+			if (digest != null && digest.fLength == length && Arrays.equals(digest.fCentralDirectory, centralDirectory)) {
+				entry.setSize(length);
+				entry.setCrc(digest.fCrc);
+				return;
+			}
+		}
+
+		JarPackagerUtil.calculateCrcAndSize(entry, new FileInputStream(file), new byte[4096]);
+		if (centralDirectory != null && entry.getSize() == length) {
+			synchronized (fgDigests) {
+				fgDigests.put(path, new Digest(length, centralDirectory, entry.getCrc()));
+			}
+		}
+	}
+
+	/*
+	 * Returns a digest of the central directory of the archive, or null if it can not be computed.
+	 */
+	private static byte[] digestCentralDirectory(ZipFile archive) {
+		MessageDigest digest;
+		try {
+			digest= MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+		} catch (NoSuchAlgorithmException e) {
+			return null;
+		}
+		byte[] longBuffer= new byte[Long.BYTES];
+		try {
+			Enumeration<? extends ZipEntry> entries= archive.entries();
+			while (entries.hasMoreElements()) {
+				ZipEntry entry= entries.nextElement();
+				byte[] name= entry.getName().getBytes(StandardCharsets.UTF_8);
+				update(digest, longBuffer, name.length);
+				digest.update(name);
+				update(digest, longBuffer, entry.getCrc());
+				update(digest, longBuffer, entry.getCompressedSize());
+				update(digest, longBuffer, entry.getSize());
+				update(digest, longBuffer, entry.getMethod());
+				update(digest, longBuffer, entry.getTime());
+			}
+		} catch (IllegalStateException e) {
+			// the archive has been closed
+			return null;
+		}
+		return digest.digest();
+	}
+
+	private static void update(MessageDigest digest, byte[] buffer, long value) {
+		for (int i= 0; i < buffer.length; i++) {
+			buffer[i]= (byte) (value >>> (8 * i));
+		}
+		digest.update(buffer);
+	}
+}
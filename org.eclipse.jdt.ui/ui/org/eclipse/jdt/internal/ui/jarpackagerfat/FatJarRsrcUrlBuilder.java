@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2023 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -40,7 +40,6 @@ import org.eclipse.jdt.ui.jarpackager.IManifestProvider;
 import org.eclipse.jdt.ui.jarpackager.JarPackageData;
 
 import org.eclipse.jdt.internal.ui.JavaPlugin;
-import org.eclipse.jdt.internal.ui.jarpackager.JarPackagerUtil;
 
 /**
  * A jar builder which copies the referenced libraries into the generated jar and adds a special
@@ -111,10 +110,9 @@ public class FatJarRsrcUrlBuilder extends FatJarBuilder {
 		jarNames.add(jarName);
 		JarEntry newEntry = new JarEntry(jarName);
 		newEntry.setMethod(ZipEntry.STORED);
-		byte[] readBuffer= new byte[4096];
 		try {
 			if (!fJarPackage.isCompressed())
-				JarPackagerUtil.calculateCrcAndSize(newEntry, new FileInputStream(jarPathFile), readBuffer);
+				FatJarDigestCache.calculateCrcAndSize(newEntry, jarFile, jarPathFile);
 			getJarWriter().addZipEntryStream(newEntry, new FileInputStream(jarPathFile), jarName);
 		} catch (IOException e) {
 			throw new RuntimeException(e);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.jarpackagerfat;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
@@ -111,15 +112,28 @@ public class JarWriter4 extends JarWriter3 {
 
 		JarEntry newEntry= new JarEntry(path.toString().replace(File.separatorChar, '/'));
 
-		if (fJarPackage.isCompressed())
+		InputStream contentStream;
+		if (fJarPackage.isCompressed()) {
 			newEntry.setMethod(ZipEntry.DEFLATED);
 			// Entry is filled automatically.
-		else {
+			contentStream= new FileInputStream(file);
+		} else {
 			newEntry.setMethod(ZipEntry.STORED);
-			JarPackagerUtil.calculateCrcAndSize(newEntry, new FileInputStream(file), new byte[4096]);
+			if (file.length() <= JarPackagerUtil.MAX_BUFFERED_ENTRY_SIZE) {
+				// read the file only once
+				byte[] content;
+				try (InputStream stream= new FileInputStream(file)) {
+					content= stream.readAllBytes();
+				}
+				JarPackagerUtil.calculateCrcAndSize(newEntry, content);
+				contentStream= new ByteArrayInputStream(content);
+			} else {
+				JarPackagerUtil.calculateCrcAndSize(newEntry, new FileInputStream(file), new byte[4096]);
+				contentStream= new FileInputStream(file);
+			}
 		}
 
 		newEntry.setTime(file.lastModified());
-		addEntry(newEntry, new FileInputStream(file));
+		addEntry(newEntry, contentStream);
 	}
 }
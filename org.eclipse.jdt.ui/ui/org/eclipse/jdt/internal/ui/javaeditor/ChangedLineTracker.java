@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.javaeditor;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import org.eclipse.core.filebuffers.ITextFileBuffer;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.DocumentEvent;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentListener;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.Region;
+
+/**
+ * Tracks the lines of a file buffer's document that were changed since the buffer was last in sync
+ * with its file, so that the changed regions needed by post save listeners do not have to be
+ * computed by comparing the document with the file on disk.
+ * <p>
+ * The tracked lines are a superset of the lines a comparison with the file would report: a line
+ * that was edited and then changed back is still reported. The tracker only knows the changed lines
+ * if the buffer was in sync when the first change since the last save happened, see
+ * {@link #getChangedLineRegions()}.
+ * </p>
+ *
+ * @see EditorUtility#calculateChangedLineRegions(ITextFileBuffer, org.eclipse.core.runtime.IProgressMonitor)
+ * @since 3.31
+ */
+final class ChangedLineTracker implements IDocumentListener {
+
+	private final ITextFileBuffer fBuffer;
+
+	/** The changed lines, in line numbers of the current document */
+	private final BitSet fChangedLines= new BitSet();
+
+	/** <code>false</code> if the buffer was already dirty when tracking started */
+	private boolean fIsValid;
+
+	/** First line affected by the pending change, in line numbers of the document before the change */
+	private int fChangeStartLine;
+
+	/** Last line affected by the pending change, in line numbers of the document before the change */
+	private int fChangeEndLine;
+
+	ChangedLineTracker(ITextFileBuffer buffer) {
+		fBuffer= buffer;
+		fIsValid= !buffer.isDirty();
+	}
+
+	void install() {
+		fBuffer.getDocument().addDocumentListener(this);
+	}
+
+	void uninstall() {
+		fBuffer.getDocument().removeDocumentListener(this);
+	}
+
+	@Override
+	public synchronized void documentAboutToBeChanged(DocumentEvent event) {
+		if (!fBuffer.isDirty()) {
+			// the document is in sync with the file (e.g. after a save or revert), start over
+			fChangedLines.clear();
+			fIsValid= true;
+		}
+		IDocument document= event.getDocument();
+		try {
+			fChangeStartLine= document.getLineOfOffset(event.getOffset());
+			fChangeEndLine= document.getLineOfOffset(event.getOffset() + event.getLength());
+		} catch (BadLocationException e) {
+			fIsValid= false;
+		}
+	}
+
+	@Override
+	public synchronized void documentChanged(DocumentEvent event) {
+		if (!fIsValid)
+			return;
+		String text= event.getText();
+		int insertedLines= text == null ? 0 : event.getDocument().computeNumberOfLines(text);
+
+		// lines behind the change move by the number of added or removed lines
+		int length= Math.max(fChangedLines.length(), fChangeEndLine + 1);
+		BitSet following= fChangedLines.get(fChangeEndLine + 1, length);
+		fChangedLines.clear(fChangeStartLine, length);
+		int firstFollowingLine= fChangeStartLine + insertedLines + 1;
+		fChangedLines.set(fChangeStartLine, firstFollowingLine);
+		for (int i= following.nextSetBit(0); i >= 0; i= following.nextSetBit(i + 1)) {
+			fChangedLines.set(firstFollowingLine + i);
+		}
+	}
+
+	/**
+	 * Returns the regions of the lines which have changed since the last save. Successive lines are
+	 * merged into one region.
+	 *
+	 * @return the regions of the changed lines, or <code>null</code> if they are not known and
+	 *         have to be computed by comparing the document with the file
+	 */
+	synchronized IRegion[] getChangedLineRegions() {
+		if (!fIsValid || !fBuffer.isDirty())
+			return null;
+
+		IDocument document= fBuffer.getDocument();
+		int numberOfLines= document.getNumberOfLines();
+		List<IRegion> regions= new ArrayList<>();
+		try {
+			int startLine= fChangedLines.nextSetBit(0);
+			while (startLine >= 0 && startLine < numberOfLines) {
+				int endLine= Math.min(fChangedLines.nextClearBit(startLine), numberOfLines) - 1;
+				IRegion startLineRegion= document.getLineInformation(startLine);
+				if (startLine == endLine) {
+					regions.add(startLineRegion);
+				} else {
+					IRegion endLineRegion= document.getLineInformation(endLine);
+					int startOffset= startLineRegion.getOffset();
+					int endOffset= endLineRegion.getOffset() + endLineRegion.getLength();
+					regions.add(new Region(startOffset, endOffset - startOffset));
+				}
+				startLine= fChangedLines.nextSetBit(endLine + 1);
+			}
+		} catch (BadLocationException e) {
+			return null;
+		}
+		return regions.toArray(new IRegion[regions.size()]);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -140,6 +140,11 @@ public class CompilationUnitDocumentProvider extends TextFileDocumentProvider im
 	 */
 	static protected class CompilationUnitInfo extends FileInfo {
 		public ICompilationUnit fCopy;
+		/**
+		 * The lines changed since the last save, or <code>null</code> if not tracked.
+		 * @since 3.31
+		 */
+		ChangedLineTracker fChangedLineTracker;
 	}
 
 	/**
@@ -1031,6 +1036,11 @@ public class CompilationUnitDocumentProvider extends TextFileDocumentProvider im
 		if (cuInfo.fModel != null)
 			cuInfo.fModel.addAnnotationModelListener(fGlobalAnnotationModelListener);
 
+		if (cuInfo.fTextFileBuffer != null) {
+			cuInfo.fChangedLineTracker= new ChangedLineTracker(cuInfo.fTextFileBuffer);
+			cuInfo.fChangedLineTracker.install();
+		}
+
 		return cuInfo;
 	}
 
@@ -1264,6 +1274,11 @@ public class CompilationUnitDocumentProvider extends TextFileDocumentProvider im
 
 			if (cuInfo.fModel != null)
 				cuInfo.fModel.removeAnnotationModelListener(fGlobalAnnotationModelListener);
+
+			if (cuInfo.fChangedLineTracker != null) {
+				cuInfo.fChangedLineTracker.uninstall();
+				cuInfo.fChangedLineTracker= null;
+			}
 		}
 		super.disposeFileInfo(element, info);
 	}
@@ -1399,7 +1414,13 @@ public class CompilationUnitDocumentProvider extends TextFileDocumentProvider im
 				IRegion[] changedRegions= null;
 				if (needsChangedRegions) {
 					try {
-						changedRegions= EditorUtility.calculateChangedLineRegions(info.fTextFileBuffer, getSubProgressMonitor(monitor, 20));
+						// the tracked lines are relative to the file as it was when editing started
+						if (isSynchronized && info.fChangedLineTracker != null)
+							changedRegions= info.fChangedLineTracker.getChangedLineRegions();
+						if (changedRegions == null)
+							changedRegions= EditorUtility.calculateChangedLineRegions(info.fTextFileBuffer, getSubProgressMonitor(monitor, 20));
+						else
+							monitor.worked(20);
 					} catch (CoreException ex) {
 						changedRegionException= ex;
 					} finally {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -50,6 +50,7 @@ import org.eclipse.jdt.core.dom.ITypeBinding;
 import org.eclipse.jdt.internal.corext.refactoring.nls.AccessorClassReference;
 import org.eclipse.jdt.internal.corext.refactoring.nls.NLSHintHelper;
 import org.eclipse.jdt.internal.corext.refactoring.nls.NLSRefactoring;
+import org.eclipse.jdt.internal.corext.refactoring.nls.PropertiesFileCache;
 import org.eclipse.jdt.internal.corext.refactoring.nls.PropertyFileDocumentModel;
 import org.eclipse.jdt.internal.corext.util.Messages;
 
@@ -165,6 +166,11 @@ public class NLSKeyHyperlink implements IHyperlink {
 		boolean found= false;
 		IRegion region= null;
 		if (document != null) {
+			region= PropertiesFileCache.getKeyRegion(document, keyName);
+			found= region != null;
+		}
+		if (!found && document != null) {
+			// Fall back: search the escaped key
 			FindReplaceDocumentAdapter finder= new FindReplaceDocumentAdapter(document);
 			PropertyKeyHyperlinkDetector detector= new PropertyKeyHyperlinkDetector();
 			detector.setContext(editor);
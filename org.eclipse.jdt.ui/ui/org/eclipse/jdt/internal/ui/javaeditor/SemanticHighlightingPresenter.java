@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -77,6 +77,28 @@ public class SemanticHighlightingPresenter extends SemanticHighlightingPresenter
 	}
 
 
+	/**
+	 * Adds the current positions starting in the given range to the given list.
+	 * <p>
+	 * NOTE: Called from background thread.
+	 * </p>
+	 *
+	 * @param list The list
+	 * @param offset The range offset
+	 * @param length The range length
+	 * @since 3.31
+	 */
+	public void addAllPositions(List<Position> list, int offset, int length) {
+		synchronized (fPositionLock) {
+			for (int i= computeIndexAtOffset(fPositions, offset), n= fPositions.size(); i < n; i++) {
+				Position position= fPositions.get(i);
+				if (position.getOffset() >= offset + length)
+					break;
+				list.add(position);
+			}
+		}
+	}
+
 	/**
 	 * Create a text presentation in the background.
 	 * <p>
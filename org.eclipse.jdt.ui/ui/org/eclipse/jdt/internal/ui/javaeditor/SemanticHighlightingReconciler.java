@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -25,24 +25,33 @@ import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
 
+import org.eclipse.jface.text.DocumentEvent;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentListener;
+import org.eclipse.jface.text.IRegion;
 import org.eclipse.jface.text.ITextInputListener;
 import org.eclipse.jface.text.Position;
+import org.eclipse.jface.text.Region;
 import org.eclipse.jface.text.TextPresentation;
 import org.eclipse.jface.text.source.ISourceViewer;
 
 import org.eclipse.ui.IWorkbenchPartSite;
 
 import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.compiler.IProblem;
 import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.Block;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.ConstructorInvocation;
 import org.eclipse.jdt.core.dom.Expression;
 import org.eclipse.jdt.core.dom.GuardedPattern;
 import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.Initializer;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
 import org.eclipse.jdt.core.dom.Modifier;
 import org.eclipse.jdt.core.dom.Modifier.ModifierKeyword;
+import org.eclipse.jdt.core.dom.NodeFinder;
 import org.eclipse.jdt.core.dom.RecordDeclaration;
 import org.eclipse.jdt.core.dom.SimpleName;
 import org.eclipse.jdt.core.dom.SimpleType;
@@ -322,6 +331,104 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 		}
 	}
 
+	/**
+	 * Tracks the region of the document changed since the last reconcile of the positions, so that
+	 * a reconcile can be limited to the body that contains the changes.
+	 * <p>
+	 * The region is only used if the document has not been changed after
+	 * {@link SemanticHighlightingReconciler#aboutToBeReconciled()}, as the AST matches the document
+	 * then, and it is only reset once the positions have been reconciled with such an AST.
+	 * </p>
+	 *
+	 * @since 3.31
+	 */
+	private static final class DirtyRegionTracker implements IDocumentListener, ITextInputListener {
+		/** Start of the changed region, <code>-1</code> if the document has not been changed */
+		private int fStart= -1;
+		/** End of the changed region */
+		private int fEnd= -1;
+		/** <code>false</code> if all positions must be reconciled, e.g. after the input changed */
+		private boolean fIsValid;
+		/** Incremented on each change of the document and on invalidation */
+		private long fModificationCount;
+
+		/** The changed region when the reconcile started, or <code>null</code> */
+		private IRegion fSnapshot;
+		/** The modification count when the reconcile started, <code>-1</code> if none started */
+		private long fSnapshotCount= -1;
+		/** The modification count the positions are being reconciled for, <code>-1</code> if unknown */
+		private long fReconcilingCount= -1;
+
+		synchronized void invalidate() {
+			fModificationCount++;
+			fIsValid= false;
+		}
+
+		synchronized void aboutToBeReconciled() {
+			fSnapshotCount= fModificationCount;
+			fSnapshot= fIsValid && fStart != -1 ? new Region(fStart, fEnd - fStart) : null;
+		}
+
+		/**
+		 * Returns the region changed before the current reconcile started.
+		 *
+		 * @return the changed region, or <code>null</code> if all positions must be reconciled
+		 */
+		synchronized IRegion getReconcilingRegion() {
+			boolean isUnchanged= fSnapshotCount == fModificationCount;
+			fReconcilingCount= isUnchanged ? fSnapshotCount : -1;
+			IRegion region= isUnchanged ? fSnapshot : null;
+			fSnapshotCount= -1;
+			fSnapshot= null;
+			return region;
+		}
+
+		/**
+		 * Called once the positions have been reconciled.
+		 */
+		synchronized void reconciled() {
+			if (fReconcilingCount != -1 && fReconcilingCount == fModificationCount) {
+				fStart= -1;
+				fEnd= -1;
+				fIsValid= true;
+			}
+			fReconcilingCount= -1;
+		}
+
+		@Override
+		public void documentAboutToBeChanged(DocumentEvent event) {
+			// Do nothing
+		}
+
+		@Override
+		public synchronized void documentChanged(DocumentEvent event) {
+			fModificationCount++;
+			int offset= event.getOffset();
+			int removedEnd= offset + event.getLength();
+			int inserted= event.getText() == null ? 0 : event.getText().length();
+			if (fStart == -1) {
+				fStart= offset;
+				fEnd= offset + inserted;
+				return;
+			}
+			fStart= Math.min(fStart, offset);
+			fEnd= fEnd >= removedEnd ? fEnd + inserted - event.getLength() : offset + inserted;
+		}
+
+		@Override
+		public void inputDocumentAboutToBeChanged(IDocument oldInput, IDocument newInput) {
+			if (oldInput != null)
+				oldInput.removeDocumentListener(this);
+		}
+
+		@Override
+		public void inputDocumentChanged(IDocument oldInput, IDocument newInput) {
+			if (newInput != null)
+				newInput.addDocumentListener(this);
+			invalidate();
+		}
+	}
+
 	/** Position collector */
 	private PositionCollector fCollector= new PositionCollector();
 
@@ -335,6 +442,11 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	private SemanticHighlighting[] fSemanticHighlightings;
 	/** Highlightings */
 	private Highlighting[] fHighlightings;
+	/**
+	 * Tracks the changes of the document, <code>null</code> if not installed.
+	 * @since 3.31
+	 */
+	private DirtyRegionTracker fDirtyRegionTracker;
 
 	/** Background job's added highlighted positions */
 	private List<Position> fAddedPositions= new ArrayList<>();
@@ -377,7 +489,9 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	 */
 	@Override
 	public void aboutToBeReconciled() {
-		// Do nothing
+		DirtyRegionTracker tracker= fDirtyRegionTracker;
+		if (tracker != null)
+			tracker.aboutToBeReconciled();
 	}
 
 	/*
@@ -395,6 +509,8 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 		fJobPresenter= fPresenter;
 		fJobSemanticHighlightings= fSemanticHighlightings;
 		fJobHighlightings= fHighlightings;
+		DirtyRegionTracker tracker= fDirtyRegionTracker;
+		IRegion dirtyRegion= tracker != null ? tracker.getReconcilingRegion() : null;
 
 		try {
 			if (fJobPresenter == null || fJobSemanticHighlightings == null || fJobHighlightings == null)
@@ -405,11 +521,11 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 			if (ast == null || fJobPresenter.isCanceled())
 				return;
 
-			ASTNode[] subtrees= getAffectedSubtrees(ast);
+			ASTNode[] subtrees= getAffectedSubtrees(ast, forced ? null : dirtyRegion);
 			if (subtrees.length == 0)
 				return;
 
-			startReconcilingPositions();
+			startReconcilingPositions(subtrees);
 
 			if (!fJobPresenter.isCanceled()) {
 				fJobDeprecatedMemberHighlighting= null;
@@ -427,8 +543,11 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 			if (!fJobPresenter.isCanceled())
 				textPresentation= fJobPresenter.createPresentation(fAddedPositions, fRemovedPositions);
 
-			if (!fJobPresenter.isCanceled())
+			if (!fJobPresenter.isCanceled()) {
 				updatePresentation(textPresentation, fAddedPositions, fRemovedPositions);
+				if (tracker != null)
+					tracker.reconciled();
+			}
 
 			stopReconcilingPositions();
 		} finally {
@@ -443,19 +562,57 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	}
 
 	/**
-	 * @param node Root node
+	 * Returns the subtrees that may be affected by past document changes. Changes within the body
+	 * of a method or initializer only affect the highlighting of that body, as everything declared
+	 * in a body is local to it. Any other change may have distant effects, e.g. changing a field to
+	 * be static, so the whole AST is affected then.
+	 *
+	 * @param ast the AST
+	 * @param dirtyRegion the region of the document changed since the last reconcile, or
+	 *            <code>null</code> if unknown
 	 * @return Array of subtrees that may be affected by past document changes
 	 */
-	private ASTNode[] getAffectedSubtrees(ASTNode node) {
-		// TODO: only return nodes which are affected by document changes - would require an 'anchor' concept for taking distant effects into account
-		return new ASTNode[] { node };
+	private ASTNode[] getAffectedSubtrees(CompilationUnit ast, IRegion dirtyRegion) {
+		if (dirtyRegion != null && !hasSyntaxErrors(ast)) {
+			int start= dirtyRegion.getOffset();
+			int end= start + dirtyRegion.getLength();
+			for (ASTNode node= NodeFinder.perform(ast, start, end - start); node != null; node= node.getParent()) {
+				if (node instanceof Block && (node.getParent() instanceof MethodDeclaration || node.getParent() instanceof Initializer)) {
+					// changes must be strictly inside the braces
+					if (node.getStartPosition() < start && end < node.getStartPosition() + node.getLength())
+						return new ASTNode[] { node };
+					break;
+				}
+			}
+		}
+		return new ASTNode[] { ast };
 	}
 
 	/**
-	 * Start reconciling positions.
+	 * @param ast the AST
+	 * @return <code>true</code> iff the AST has syntax errors, which may have been recovered from
+	 *         beyond the changed body
 	 */
-	private void startReconcilingPositions() {
-		fJobPresenter.addAllPositions(fRemovedPositions);
+	private static boolean hasSyntaxErrors(CompilationUnit ast) {
+		for (IProblem problem : ast.getProblems()) {
+			if (problem.isError() && (problem.getID() & IProblem.Syntax) != 0)
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Start reconciling positions. Only the positions covered by the subtrees may be removed.
+	 *
+	 * @param subtrees the AST subtrees
+	 */
+	private void startReconcilingPositions(ASTNode[] subtrees) {
+		for (ASTNode subtree : subtrees) {
+			if (subtree instanceof CompilationUnit)
+				fJobPresenter.addAllPositions(fRemovedPositions);
+			else
+				fJobPresenter.addAllPositions(fRemovedPositions, subtree.getStartPosition(), subtree.getLength());
+		}
 		fNOfRemovedPositions= fRemovedPositions.size();
 	}
 
@@ -465,10 +622,7 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	 * @param subtrees the AST subtrees
 	 */
 	private void reconcilePositions(ASTNode[] subtrees) {
-		// FIXME: remove positions not covered by subtrees
-
-
-
+		// positions not covered by the subtrees are not candidates for removal, see startReconcilingPositions
 		for (ASTNode subtree : subtrees)
 			subtree.accept(fCollector);
 		List<Position> oldPositions= fRemovedPositions;
@@ -538,6 +692,11 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 
 		if (fEditor instanceof CompilationUnitEditor) {
 			if (registerAsEditorReconcilingListener()) {
+				fDirtyRegionTracker= new DirtyRegionTracker();
+				fSourceViewer.addTextInputListener(fDirtyRegionTracker);
+				IDocument document= fSourceViewer.getDocument();
+				if (document != null)
+					fDirtyRegionTracker.inputDocumentChanged(null, document);
 				((CompilationUnitEditor)fEditor).addReconcileListener(this);
 			}
 		} else if (fEditor != null) {
@@ -561,6 +720,14 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 		if (fPresenter != null)
 			fPresenter.setCanceled(true);
 
+		if (fDirtyRegionTracker != null) {
+			fSourceViewer.removeTextInputListener(fDirtyRegionTracker);
+			IDocument document= fSourceViewer.getDocument();
+			if (document != null)
+				fDirtyRegionTracker.inputDocumentAboutToBeChanged(document, null);
+			fDirtyRegionTracker= null;
+		}
+
 		if (fEditor != null) {
 			if (fEditor instanceof CompilationUnitEditor)
 				((CompilationUnitEditor)fEditor).removeReconcileListener(this);
@@ -656,6 +823,9 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	 * @since 3.2
 	 */
 	public void refresh() {
+		DirtyRegionTracker tracker= fDirtyRegionTracker;
+		if (tracker != null)
+			tracker.invalidate();
 		scheduleJob();
 	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,41 +19,53 @@ import org.eclipse.search.ui.text.Match;
  * A search match with additional java-specific info.
  */
 public class JavaElementMatch extends Match {
-	private final int fAccuracy;
+
+	/*
+	 * The accuracy and the access kinds are packed into a single int, since a search
+	 * can produce a very large number of matches.
+	 */
+	private static final int ACCURACY_MASK= 0xFF;
+	private static final int IS_WRITE_ACCESS= 1 << 8;
+	private static final int IS_READ_ACCESS= 1 << 9;
+	private static final int IS_JAVADOC= 1 << 10;
+	private static final int IS_SUPER_INVOCATION= 1 << 11;
+
+	private final int fFlags;
 	private final int fMatchRule;
-	private final boolean fIsWriteAccess;
-	private final boolean fIsReadAccess;
-	private final boolean fIsJavadoc;
-	private final boolean fIsSuperInvocation;
 
 	JavaElementMatch(Object element, int matchRule, int offset, int length, int accuracy, boolean isReadAccess, boolean isWriteAccess, boolean isJavadoc, boolean isSuperInvocation) {
 		super(element, offset, length);
-		fAccuracy= accuracy;
+		int flags= accuracy & ACCURACY_MASK;
+		if (isWriteAccess)
+			flags|= IS_WRITE_ACCESS;
+		if (isReadAccess)
+			flags|= IS_READ_ACCESS;
+		if (isJavadoc)
+			flags|= IS_JAVADOC;
+		if (isSuperInvocation)
+			flags|= IS_SUPER_INVOCATION;
+		fFlags= flags;
 		fMatchRule= matchRule;
-		fIsWriteAccess= isWriteAccess;
-		fIsReadAccess= isReadAccess;
-		fIsJavadoc= isJavadoc;
-		fIsSuperInvocation= isSuperInvocation;
 	}
 
 	public int getAccuracy() {
-		return fAccuracy;
+		return fFlags & ACCURACY_MASK;
 	}
 
 	public boolean isWriteAccess() {
-		return fIsWriteAccess;
+		return (fFlags & IS_WRITE_ACCESS) != 0;
 	}
 
 	public boolean isReadAccess() {
-		return fIsReadAccess;
+		return (fFlags & IS_READ_ACCESS) != 0;
 	}
 
 	public boolean isJavadoc() {
-		return fIsJavadoc;
+		return (fFlags & IS_JAVADOC) != 0;
 	}
 
 	public boolean isSuperInvocation() {
-		return fIsSuperInvocation;
+		return (fFlags & IS_SUPER_INVOCATION) != 0;
 	}
 
 	public int getMatchRule() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.ICoreRunnable;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.IStatus;
@@ -24,6 +25,7 @@ import org.eclipse.core.runtime.PerformanceStats;
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.Job;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
@@ -37,6 +39,7 @@ import org.eclipse.search.ui.text.Match;
 
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
 import org.eclipse.jdt.core.search.SearchEngine;
 import org.eclipse.jdt.core.search.SearchParticipant;
 import org.eclipse.jdt.core.search.SearchPattern;
@@ -63,6 +66,11 @@ public class JavaSearchQuery implements ISearchQuery {
 	private ISearchResult fResult;
 	private final List<QuerySpecification> fPatternDataList;
 
+	/**
+	 * The pattern the engine searched for in the last run, or <code>null</code>.
+	 */
+	private volatile SearchPattern fSearchPattern;
+
 	public JavaSearchQuery(QuerySpecification data) {
 		if (data == null) {
 			throw new IllegalArgumentException("data must not be null"); //$NON-NLS-1$
@@ -169,50 +177,176 @@ public class JavaSearchQuery implements ISearchQuery {
 			if (pattern == null) {
 				return new Status(IStatus.ERROR, JavaPlugin.getPluginId(), 0, Messages.format(SearchMessages.JavaSearchQuery_error_unsupported_pattern, stringPattern), null);
 			}
+			fSearchPattern= pattern;
 			SubMonitor subMonitor= SubMonitor.convert(monitor, Messages.format(SearchMessages.JavaSearchQuery_task_label, stringPattern), totalTicks);
 
 			boolean ignorePotentials= NewSearchUI.arePotentialMatchesIgnored();
 			NewSearchResultCollector collector= new NewSearchResultCollector(textResult, ignorePotentials);
 
 
-			engine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, getFirstSpecification().getScope(), collector, subMonitor.split(1000));
+			Job[] participantJobs= new Job[participantDescriptors.length];
 			for (int i= 0; i < participantDescriptors.length; i++) {
-				final ISearchRequestor requestor= new SearchRequestor(participantDescriptors[i].getParticipant(), textResult);
-				final IProgressMonitor participantPM= subMonitor.split(ticks[i]);
+				final SearchParticipantRecord participantDescriptor= participantDescriptors[i];
+				final ISearchRequestor requestor= new SearchRequestor(participantDescriptor.getParticipant(), textResult);
+				final int participantTicks= ticks[i];
+
+				// participants run concurrently with the engine search and with each other
+				participantJobs[i]= Job.createSystem(getLabel(), (ICoreRunnable) jobMonitor -> {
+					IProgressMonitor participantPM= new ConcurrentProgressMonitor(subMonitor, participantTicks, jobMonitor);
+					SafeRunner.run(createParticipantRunnable(participantDescriptor, requestor, participantPM));
+				});
+				participantJobs[i].schedule();
+			}
 
-				final int iPrime= i;
-				ISafeRunnable runnable= new ISafeRunnable() {
-					@Override
-					public void handleException(Throwable exception) {
-						participantDescriptors[iPrime].getDescriptor().disable();
-						String message= SearchMessages.JavaSearchQuery_error_participant_search;
-						JavaPlugin.log(new Status(IStatus.ERROR, JavaPlugin.getPluginId(), 0, message, exception));
-					}
+			boolean completed= false;
+			try {
+				IProgressMonitor enginePM= participantJobs.length == 0 ? subMonitor.split(1000) : new ConcurrentProgressMonitor(subMonitor, 1000, null);
+				engine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, getFirstSpecification().getScope(), collector, enginePM);
+				completed= true;
+			} finally {
+				if (!completed || subMonitor.isCanceled()) {
+					cancelParticipants(participantJobs);
+				}
+				joinParticipants(participantJobs, subMonitor);
+			}
 
-					@Override
-					public void run() throws Exception {
+		} catch (CoreException e) {
+			return e.getStatus();
+		}
+		String message= Messages.format(SearchMessages.JavaSearchQuery_status_ok_message, String.valueOf(textResult.getMatchCount()));
+		return new Status(IStatus.OK, JavaPlugin.getPluginId(), 0, message, null);
+	}
 
-						final IQueryParticipant participant= participantDescriptors[iPrime].getParticipant();
+	private ISafeRunnable createParticipantRunnable(final SearchParticipantRecord participantDescriptor, final ISearchRequestor requestor, final IProgressMonitor participantPM) {
+		return new ISafeRunnable() {
+			@Override
+			public void handleException(Throwable exception) {
+				participantDescriptor.getDescriptor().disable();
+				String message= SearchMessages.JavaSearchQuery_error_participant_search;
+				JavaPlugin.log(new Status(IStatus.ERROR, JavaPlugin.getPluginId(), 0, message, exception));
+			}
 
-						final PerformanceStats stats= PerformanceStats.getStats(PERF_SEARCH_PARTICIPANT, participant);
-						stats.startRun();
+			@Override
+			public void run() throws Exception {
 
-						for (QuerySpecification querySpecification : fPatternDataList) {
-							participant.search(requestor, querySpecification, participantPM);
-						}
+				final IQueryParticipant participant= participantDescriptor.getParticipant();
 
-						stats.endRun();
-					}
-				};
+				final PerformanceStats stats= PerformanceStats.getStats(PERF_SEARCH_PARTICIPANT, participant);
+				stats.startRun();
 
-				SafeRunner.run(runnable);
+				for (QuerySpecification querySpecification : fPatternDataList) {
+					if (participantPM.isCanceled())
+						break;
+					participant.search(requestor, querySpecification, participantPM);
+				}
+
+				stats.endRun();
 			}
+		};
+	}
 
-		} catch (CoreException e) {
-			return e.getStatus();
+	private static void cancelParticipants(Job[] participantJobs) {
+		for (Job job : participantJobs) {
+			job.cancel();
+		}
+	}
+
+	private static void joinParticipants(Job[] participantJobs, IProgressMonitor monitor) {
+		for (Job job : participantJobs) {
+			try {
+				job.join();
+			} catch (InterruptedException e) {
+				monitor.setCanceled(true);
+				cancelParticipants(participantJobs);
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Progress monitor for one of the concurrently running searches. Maps the work reported by the
+	 * search to its share of ticks in the parent monitor, serializing the updates of the parent.
+	 * The search is canceled when either the parent or the monitor of the job running the search is
+	 * canceled.
+	 */
+	private static class ConcurrentProgressMonitor implements IProgressMonitor {
+
+		private final IProgressMonitor fParent;
+		private final IProgressMonitor fJobMonitor;
+		private final int fTicks;
+		private double fScale;
+		private double fReported;
+
+		/**
+		 * @param parent the monitor shared by all searches of the query
+		 * @param ticks the share of the search in the parent's ticks
+		 * @param jobMonitor the monitor of the job running the search, or <code>null</code> if the
+		 *            search runs in the query's thread
+		 */
+		ConcurrentProgressMonitor(IProgressMonitor parent, int ticks, IProgressMonitor jobMonitor) {
+			fParent= parent;
+			fTicks= ticks;
+			fJobMonitor= jobMonitor;
+		}
+
+		@Override
+		public void beginTask(String name, int totalWork) {
+			fScale= totalWork > 0 ? (double) fTicks / totalWork : 0;
+		}
+
+		@Override
+		public void done() {
+			report(fTicks - fReported);
+		}
+
+		@Override
+		public void internalWorked(double work) {
+			report(work * fScale);
+		}
+
+		private void report(double work) {
+			double delta= Math.min(work, fTicks - fReported);
+			if (delta > 0) {
+				fReported+= delta;
+				synchronized (fParent) {
+					fParent.internalWorked(delta);
+				}
+			}
+		}
+
+		@Override
+		public boolean isCanceled() {
+			if (fJobMonitor != null && fJobMonitor.isCanceled())
+				return true;
+			synchronized (fParent) {
+				return fParent.isCanceled();
+			}
+		}
+
+		@Override
+		public void setCanceled(boolean value) {
+			if (fJobMonitor != null)
+				fJobMonitor.setCanceled(value);
+			synchronized (fParent) {
+				fParent.setCanceled(value);
+			}
+		}
+
+		@Override
+		public void setTaskName(String name) {
+			// the parent shows the query
+		}
+
+		@Override
+		public void subTask(String name) {
+			// the parent shows the query
+		}
+
+		@Override
+		public void worked(int work) {
+			internalWorked(work);
 		}
-		String message= Messages.format(SearchMessages.JavaSearchQuery_status_ok_message, String.valueOf(textResult.getMatchCount()));
-		return new Status(IStatus.OK, JavaPlugin.getPluginId(), 0, message, null);
 	}
 
 	private int getMatchMode(String pattern) {
@@ -324,4 +458,16 @@ public class JavaSearchQuery implements ISearchQuery {
 	List<QuerySpecification> getSpecification() {
 		return fPatternDataList;
 	}
+
+	/**
+	 * @return the pattern used by the last run of the engine search, or <code>null</code> if the
+	 *         query has not run yet
+	 */
+	SearchPattern getSearchPattern() {
+		return fSearchPattern;
+	}
+
+	IJavaSearchScope getScope() {
+		return getFirstSpecification().getScope();
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -31,6 +31,7 @@ import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IResource;
 
 import org.eclipse.jface.action.Action;
+import org.eclipse.jface.action.IAction;
 import org.eclipse.jface.action.IMenuManager;
 import org.eclipse.jface.action.IToolBarManager;
 import org.eclipse.jface.action.MenuManager;
@@ -375,6 +376,14 @@ public class JavaSearchResultPage extends AbstractTextSearchViewPage implements
 		IMenuManager menuManager = site.getActionBars().getMenuManager();
 		menuManager.insertBefore(IContextMenuConstants.GROUP_PROPERTIES, new Separator(GROUP_FILTERING));
 		fActionGroup.fillActionBars(site.getActionBars());
+		Action incrementalUpdateAction= new Action(SearchMessages.JavaSearchResultPage_incremental_update_label, IAction.AS_CHECK_BOX) {
+			@Override
+			public void run() {
+				SearchResultUpdater.setIncrementalUpdateEnabled(isChecked());
+			}
+		};
+		incrementalUpdateAction.setChecked(SearchResultUpdater.isIncrementalUpdateEnabled());
+		menuManager.appendToGroup(IContextMenuConstants.GROUP_PROPERTIES, incrementalUpdateAction);
 		menuManager.appendToGroup(IContextMenuConstants.GROUP_PROPERTIES, new Action(SearchMessages.JavaSearchResultPage_preferences_label) {
 			@Override
 			public void run() {
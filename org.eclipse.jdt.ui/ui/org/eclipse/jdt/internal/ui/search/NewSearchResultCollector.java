@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,9 +13,19 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.search;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 
 import org.eclipse.search.ui.text.AbstractTextSearchResult;
+import org.eclipse.search.ui.text.Match;
 
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.search.FieldDeclarationMatch;
@@ -27,14 +37,52 @@ import org.eclipse.jdt.core.search.SearchMatch;
 import org.eclipse.jdt.core.search.SearchParticipant;
 import org.eclipse.jdt.core.search.SearchRequestor;
 
+/**
+ * Collects the matches reported by the search engine into an {@link AbstractTextSearchResult}.
+ * <p>
+ * Matches are buffered and added in batches, so that the result fires one change event per batch
+ * instead of one per match. A batch is flushed when it is full, every {@link #FLUSH_INTERVAL}
+ * milliseconds while the engine is reporting, also when no new matches arrive, and when the engine
+ * ends reporting.
+ * </p>
+ */
 public class NewSearchResultCollector extends SearchRequestor {
+
+	private static final int BATCH_SIZE= 1000;
+	private static final long FLUSH_INTERVAL= 300;
+
 	private AbstractTextSearchResult fSearch;
 	private boolean fIgnorePotentials;
 
+	/** The matches not yet added to the result, guarded by itself */
+	private final List<Match> fBuffer= new ArrayList<>();
+
+	/** <code>true</code> while the engine is reporting, guarded by {@link #fBuffer} */
+	private boolean fIsReporting;
+
+	private final Job fFlushJob= new Job(SearchMessages.NewSearchResultCollector_flush_job_name) {
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			flush();
+			synchronized (fBuffer) {
+				if (fIsReporting)
+					schedule(FLUSH_INTERVAL);
+			}
+			return Status.OK_STATUS;
+		}
+	};
+
+	/**
+	 * The engine creates a new handle for the enclosing element of every match. Equal handles are
+	 * shared, so that matches in the same member do not each retain their own copy.
+	 */
+	private final Map<IJavaElement, IJavaElement> fElements= new HashMap<>();
+
 	public NewSearchResultCollector(AbstractTextSearchResult search, boolean ignorePotentials) {
 		super();
 		fSearch= search;
 		fIgnorePotentials= ignorePotentials;
+		fFlushJob.setSystem(true);
 	}
 
 	@Override
@@ -43,6 +91,9 @@ public class NewSearchResultCollector extends SearchRequestor {
 		if (enclosingElement != null) {
 			if (fIgnorePotentials && (match.getAccuracy() == SearchMatch.A_INACCURATE))
 				return;
+			IJavaElement shared= fElements.putIfAbsent(enclosingElement, enclosingElement);
+			if (shared != null)
+				enclosingElement= shared;
 			boolean isWriteAccess= false;
 			boolean isReadAccess= false;
 			if (match instanceof FieldReferenceMatch) {
@@ -63,16 +114,56 @@ public class NewSearchResultCollector extends SearchRequestor {
 				MethodReferenceMatch methodRef= (MethodReferenceMatch) match;
 				isSuperInvocation= methodRef.isSuperInvocation();
 			}
-			fSearch.addMatch(new JavaElementMatch(enclosingElement, match.getRule(), match.getOffset(), match.getLength(), match.getAccuracy(), isReadAccess, isWriteAccess, match.isInsideDocComment(), isSuperInvocation));
+			addMatch(new JavaElementMatch(enclosingElement, match.getRule(), match.getOffset(), match.getLength(), match.getAccuracy(), isReadAccess, isWriteAccess, match.isInsideDocComment(), isSuperInvocation));
+		}
+	}
+
+	private void addMatch(Match match) {
+		boolean isFull;
+		synchronized (fBuffer) {
+			fBuffer.add(match);
+			isFull= fBuffer.size() >= BATCH_SIZE;
+		}
+		if (isFull)
+			flush();
+	}
+
+	/**
+	 * Adds all buffered matches to the search result.
+	 */
+	public void flush() {
+		Match[] matches;
+		synchronized (fBuffer) {
+			if (fBuffer.isEmpty())
+				return;
+			matches= fBuffer.toArray(new Match[fBuffer.size()]);
+			fBuffer.clear();
 		}
+		fSearch.addMatches(matches);
 	}
 
 	@Override
 	public void beginReporting() {
+		synchronized (fBuffer) {
+			fIsReporting= true;
+		}
+		fFlushJob.schedule(FLUSH_INTERVAL);
 	}
 
 	@Override
 	public void endReporting() {
+		synchronized (fBuffer) {
+			fIsReporting= false;
+		}
+		if (!fFlushJob.cancel()) {
+			try {
+				fFlushJob.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		flush();
+		fElements.clear();
 	}
 
 	@Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -194,6 +194,7 @@ public final class SearchMessages extends NLS {
 	public static String JavaSearchResultPage_filtered_message;
 	public static String JavaSearchResultPage_sortBylabel;
 	public static String JavaSearchResultPage_error_marker;
+	public static String JavaSearchResultPage_incremental_update_label;
 	public static String JavaSearchResultPage_groupby_project;
 	public static String JavaSearchResultPage_groupby_project_tooltip;
 	public static String JavaSearchResultPage_groupby_package;
@@ -210,6 +211,8 @@ public final class SearchMessages extends NLS {
 	public static String JavaSearchQuery_status_ok_message;
 	public static String JavaSearchQuery_error_participant_estimate;
 	public static String JavaSearchQuery_error_participant_search;
+	public static String NewSearchResultCollector_flush_job_name;
+	public static String SearchResultUpdater_job_name;
 	public static String SearchParticipant_error_noID;
 	public static String SearchParticipant_error_noNature;
 	public static String SearchParticipant_error_noClass;
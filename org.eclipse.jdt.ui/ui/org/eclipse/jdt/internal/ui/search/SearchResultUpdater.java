@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,10 +13,20 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.search;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 
+import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IAdaptable;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.IJobFunction;
+import org.eclipse.core.runtime.jobs.Job;
 
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IResourceDelta;
@@ -27,26 +37,71 @@ import org.eclipse.search.ui.NewSearchUI;
 import org.eclipse.search.ui.text.Match;
 
 import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IElementChangedListener;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaElementDelta;
 import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchParticipant;
+import org.eclipse.jdt.core.search.SearchPattern;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
 
 public class SearchResultUpdater implements IElementChangedListener, IQueryListener {
 
+	private static final String SETTINGS_INCREMENTAL_UPDATE= "org.eclipse.jdt.search.resultpage.incremental_update"; //$NON-NLS-1$
+
+	private static final long UPDATE_DELAY= 500;
+
+	/**
+	 * The value of {@link #SETTINGS_INCREMENTAL_UPDATE}, read once so that deltas don't access the
+	 * dialog settings, or <code>null</code> if not read yet.
+	 */
+	private static volatile Boolean fgIncrementalUpdateEnabled;
+
 	JavaSearchResult fResult;
 	private static final int REMOVED_FLAGS= IJavaElementDelta.F_MOVED_TO |
 									IJavaElementDelta.F_REMOVED_FROM_CLASSPATH |
 									IJavaElementDelta.F_CLOSED |
 									IJavaElementDelta.F_CONTENT;
 
+	/**
+	 * Compilation units changed since the last incremental update, only tracked when incremental
+	 * updates are enabled.
+	 */
+	private final Set<ICompilationUnit> fChangedUnits= new LinkedHashSet<>();
+
+	private final Job fUpdateJob;
+
 	public SearchResultUpdater(JavaSearchResult result) {
 		fResult= result;
+		fUpdateJob= Job.create(SearchMessages.SearchResultUpdater_job_name, (IJobFunction) this::updateChangedUnits);
+		fUpdateJob.setSystem(true);
 		NewSearchUI.addQueryListener(this);
 		JavaCore.addElementChangedListener(this);
 		// TODO make this work with resources
 	}
 
+	/**
+	 * @return <code>true</code> if open Java search results re-search the compilation units that
+	 *         changed since the search ran
+	 */
+	public static boolean isIncrementalUpdateEnabled() {
+		Boolean enabled= fgIncrementalUpdateEnabled;
+		if (enabled == null) {
+			enabled= Boolean.valueOf(JavaPlugin.getDefault().getDialogSettings().getBoolean(SETTINGS_INCREMENTAL_UPDATE));
+			fgIncrementalUpdateEnabled= enabled;
+		}
+		return enabled.booleanValue();
+	}
+
+	public static void setIncrementalUpdateEnabled(boolean enabled) {
+		JavaPlugin.getDefault().getDialogSettings().put(SETTINGS_INCREMENTAL_UPDATE, enabled);
+		fgIncrementalUpdateEnabled= Boolean.valueOf(enabled);
+	}
+
 	@Override
 	public void elementChanged(ElementChangedEvent event) {
 		//long t0= System.currentTimeMillis();
@@ -58,9 +113,98 @@ public class SearchResultUpdater implements IElementChangedListener, IQueryListe
 			handleRemoved(removedElements);
 		if (potentiallyRemovedElements.size() > 0)
 			handleRemoved(potentiallyRemovedElements);
+		if (event.getType() == ElementChangedEvent.POST_CHANGE && isIncrementalUpdateEnabled()) {
+			List<ICompilationUnit> changedUnits= new ArrayList<>();
+			collectChangedUnits(changedUnits, delta);
+			if (!changedUnits.isEmpty()) {
+				synchronized (fChangedUnits) {
+					fChangedUnits.addAll(changedUnits);
+				}
+				fUpdateJob.schedule(UPDATE_DELAY);
+			}
+		}
 		//System.out.println(this+"handled delta in: "+(System.currentTimeMillis()-t0));
 	}
 
+	private void collectChangedUnits(List<ICompilationUnit> changedUnits, IJavaElementDelta delta) {
+		IJavaElement element= delta.getElement();
+		if (element.getElementType() == IJavaElement.COMPILATION_UNIT) {
+			ICompilationUnit unit= (ICompilationUnit) element;
+			// primary units, also when open in an editor; working copies of other owners are not searched
+			if (unit.getOwner() == null && (delta.getKind() == IJavaElementDelta.ADDED
+					|| delta.getKind() == IJavaElementDelta.CHANGED && (delta.getFlags() & (IJavaElementDelta.F_CONTENT | IJavaElementDelta.F_FINE_GRAINED)) != 0)) {
+				changedUnits.add(unit);
+			}
+			return;
+		}
+		for (IJavaElementDelta childDelta : delta.getAffectedChildren()) {
+			collectChangedUnits(changedUnits, childDelta);
+		}
+	}
+
+	/*
+	 * Re-runs the engine search of the query on the compilation units that changed since the
+	 * search ran and replaces their matches in the result. Matches reported by query participants
+	 * are left alone.
+	 */
+	private IStatus updateChangedUnits(IProgressMonitor monitor) {
+		JavaSearchQuery query= (JavaSearchQuery) fResult.getQuery();
+		if (NewSearchUI.isQueryRunning(query)) {
+			// the running search sees the changes, unless they come after it; catch up then
+			fUpdateJob.schedule(UPDATE_DELAY);
+			return Status.OK_STATUS;
+		}
+		ICompilationUnit[] units;
+		synchronized (fChangedUnits) {
+			units= fChangedUnits.toArray(new ICompilationUnit[fChangedUnits.size()]);
+			fChangedUnits.clear();
+		}
+		SearchPattern pattern= query.getSearchPattern();
+		if (pattern == null || units.length == 0)
+			return Status.OK_STATUS;
+
+		IJavaSearchScope queryScope= query.getScope();
+		List<IJavaElement> inScope= new ArrayList<>();
+		for (ICompilationUnit unit : units) {
+			if (unit.exists() && queryScope.encloses(unit)) {
+				inScope.add(unit);
+			}
+		}
+		if (inScope.isEmpty())
+			return Status.OK_STATUS;
+
+		removeEngineMatches(inScope);
+		NewSearchResultCollector collector= new NewSearchResultCollector(fResult, NewSearchUI.arePotentialMatchesIgnored());
+		IJavaSearchScope scope= SearchEngine.createJavaSearchScope(inScope.toArray(new IJavaElement[inScope.size()]));
+		try {
+			new SearchEngine().search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, scope, collector, monitor);
+		} catch (OperationCanceledException e) {
+			return Status.CANCEL_STATUS;
+		} catch (CoreException e) {
+			return e.getStatus();
+		}
+		return Status.OK_STATUS;
+	}
+
+	private void removeEngineMatches(List<IJavaElement> units) {
+		List<Match> toRemove= new ArrayList<>();
+		for (Object element : fResult.getElements()) {
+			if (element instanceof IJavaElement) {
+				IJavaElement unit= ((IJavaElement) element).getAncestor(IJavaElement.COMPILATION_UNIT);
+				if (unit != null && units.contains(unit)) {
+					for (Match match : fResult.getMatches(element)) {
+						if (match instanceof JavaElementMatch) {
+							toRemove.add(match);
+						}
+					}
+				}
+			}
+		}
+		if (!toRemove.isEmpty()) {
+			fResult.removeMatches(toRemove.toArray(new Match[toRemove.size()]));
+		}
+	}
+
 	private void handleRemoved(Set<IAdaptable> removedElements) {
 		for (Object element : fResult.getElements()) {
 			if (isContainedInRemoved(removedElements, element)) {
@@ -139,6 +283,7 @@ public class SearchResultUpdater implements IElementChangedListener, IQueryListe
 		if (fResult.equals(query.getSearchResult())) {
 			JavaCore.removeElementChangedListener(this);
 			NewSearchUI.removeQueryListener(this);
+			fUpdateJob.cancel();
 		}
 	}
 
@@ -154,7 +299,12 @@ public class SearchResultUpdater implements IElementChangedListener, IQueryListe
 
 	@Override
 	public void queryStarting(ISearchQuery query) {
-		// not interested
+		if (fResult.equals(query.getSearchResult())) {
+			// a full search supersedes pending incremental updates
+			synchronized (fChangedUnits) {
+				fChangedUnits.clear();
+			}
+		}
 	}
 
 	@Override
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.viewsupport;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jface.viewers.StyledString;
+import org.eclipse.jface.viewers.StyledString.Styler;
+
+import org.eclipse.jdt.core.IJavaElement;
+
+import org.eclipse.jdt.internal.core.manipulation.JavaElementLabelCache;
+
+import org.eclipse.jdt.internal.ui.viewsupport.JavaElementLabelComposer.FlexibleBuffer;
+
+/**
+ * Appends the labels composed by {@link JavaElementLabelComposer}, taking them from the
+ * {@link JavaElementLabelCache} if possible.
+ */
+public final class CachedJavaElementLabels {
+
+	private static final String PLAIN_LABEL= "ui"; //$NON-NLS-1$
+	private static final String STYLED_LABEL= "ui.styled"; //$NON-NLS-1$
+
+	/**
+	 * The text of a styled label and the stylers set on it, in the order they were set.
+	 */
+	private static final class StyledLabel {
+		final String fText;
+		final int[] fRanges;
+		final Styler[] fStylers;
+
+		StyledLabel(String text, int[] ranges, Styler[] stylers) {
+			fText= text;
+			fRanges= ranges;
+			fStylers= stylers;
+		}
+
+		void appendTo(StyledString result) {
+			int offset= result.length();
+			result.append(fText);
+			for (int i= 0; i < fStylers.length; i++) {
+				result.setStyle(offset + fRanges[2 * i], fRanges[2 * i + 1], fStylers[i]);
+			}
+		}
+	}
+
+	/**
+	 * Records the text and the stylers of a label.
+	 */
+	private static final class StyledLabelRecorder extends FlexibleBuffer {
+		private final StringBuilder fText= new StringBuilder();
+		private final List<Integer> fRanges= new ArrayList<>();
+		private final List<Styler> fStylers= new ArrayList<>();
+
+		@Override
+		public FlexibleBuffer append(char ch) {
+			fText.append(ch);
+			return this;
+		}
+
+		@Override
+		public FlexibleBuffer append(String string) {
+			fText.append(string);
+			return this;
+		}
+
+		@Override
+		public int length() {
+			return fText.length();
+		}
+
+		@Override
+		public void setStyle(int offset, int length, Styler styler) {
+			if (offset < 0 || offset + length > fText.length())
+				throw new StringIndexOutOfBoundsException(offset + length);
+			fRanges.add(offset);
+			fRanges.add(length);
+			fStylers.add(styler);
+		}
+
+		@Override
+		public String toString() {
+			return fText.toString();
+		}
+
+		StyledLabel toStyledLabel() {
+			int[] ranges= new int[fRanges.size()];
+			for (int i= 0; i < ranges.length; i++) {
+				ranges[i]= fRanges.get(i);
+			}
+			return new StyledLabel(fText.toString(), ranges, fStylers.toArray(new Styler[fStylers.size()]));
+		}
+	}
+
+	private CachedJavaElementLabels() {
+	}
+
+	/**
+	 * Appends the label for a Java element.
+	 *
+	 * @param element the element to render
+	 * @param flags the rendering flags
+	 * @param buf the buffer to append the resulting label to
+	 */
+	public static void appendElementLabel(IJavaElement element, long flags, StringBuffer buf) {
+		JavaElementLabelComposer.initPackageNamePatterns();
+		buf.append(JavaElementLabelCache.getLabel(PLAIN_LABEL, element, flags, () -> {
+			StringBuffer result= new StringBuffer();
+			new JavaElementLabelComposer(result).appendElementLabel(element, flags);
+			return result.toString();
+		}));
+	}
+
+	/**
+	 * Appends the styled label for a Java element.
+	 *
+	 * @param element the element to render
+	 * @param flags the rendering flags
+	 * @param result the styled string to append the resulting label to
+	 */
+	public static void appendElementLabel(IJavaElement element, long flags, StyledString result) {
+		JavaElementLabelComposer.initPackageNamePatterns();
+		StyledLabel label= JavaElementLabelCache.getLabel(STYLED_LABEL, element, flags, () -> {
+			StyledLabelRecorder recorder= new StyledLabelRecorder();
+			new JavaElementLabelComposer(recorder).appendElementLabel(element, flags);
+			return recorder.toStyledLabel();
+		});
+		label.appendTo(result);
+	}
+}
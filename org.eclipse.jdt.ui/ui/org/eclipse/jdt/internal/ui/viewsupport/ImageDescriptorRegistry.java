@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2013 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,9 +13,8 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.viewsupport;
 
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.widgets.Display;
@@ -31,7 +30,7 @@ import org.eclipse.ui.PlatformUI;
  */
 public class ImageDescriptorRegistry {
 
-	private Map<ImageDescriptor, Image> fRegistry= Collections.synchronizedMap(new HashMap<ImageDescriptor, Image>(10));
+	private Map<ImageDescriptor, Image> fRegistry= new ConcurrentHashMap<>(10);
 	private Display fDisplay;
 
 	/**
@@ -61,8 +60,14 @@ public class ImageDescriptorRegistry {
 			return result;
 
 		result= descriptor.createImage();
-		if (result != null)
-			fRegistry.put(descriptor, result);
+		if (result != null) {
+			Image existing= fRegistry.putIfAbsent(descriptor, result);
+			if (existing != null) {
+				// another thread created the image concurrently
+				result.dispose();
+				result= existing;
+			}
+		}
 		return result;
 	}
 
@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.viewsupport;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.JavaCore;
+
+/**
+ * Caches the adornment flags computed by {@link JavaElementImageProvider} for Java elements.
+ * <p>
+ * The adornments of a member depend on the member, its declaring types and, for the runnable
+ * adornment, on the methods of a type. The flags are therefore removed from the cache as soon as a
+ * Java element delta reports a change of the compilation unit or class file containing the element,
+ * or of one of its ancestors.
+ * </p>
+ *
+ * @since 3.31
+ */
+public final class JavaElementAdornmentCache {
+
+	/** Returned by {@link #getAdornmentFlags(IJavaElement)} for elements that are not cached */
+	static final int UNKNOWN= -1;
+
+	private static final int CACHE_SIZE= 10000;
+
+	private static final Map<IJavaElement, Integer> fgFlags= new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<IJavaElement, Integer> eldest) {
+			return size() > CACHE_SIZE;
+		}
+	};
+
+	/** Incremented whenever flags are removed, guarded by {@link #fgFlags} */
+	private static long fgGeneration;
+
+	private static IElementChangedListener fgListener;
+
+	private JavaElementAdornmentCache() {
+	}
+
+	/**
+	 * @param element the element
+	 * @return the cached adornment flags of the element, or {@link #UNKNOWN}
+	 */
+	static int getAdornmentFlags(IJavaElement element) {
+		synchronized (fgFlags) {
+			Integer flags= fgFlags.get(element);
+			return flags != null ? flags.intValue() : UNKNOWN;
+		}
+	}
+
+	/**
+	 * Returns a stamp to pass to {@link #putAdornmentFlags(IJavaElement, int, long)} after the
+	 * flags have been computed.
+	 *
+	 * @return the current stamp
+	 */
+	static long getStamp() {
+		synchronized (fgFlags) {
+			if (fgListener == null) {
+				fgListener= JavaElementAdornmentCache::elementChanged;
+				JavaCore.addElementChangedListener(fgListener, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+			}
+			return fgGeneration;
+		}
+	}
+
+	/**
+	 * Caches the adornment flags of an element, unless an element changed while they were
+	 * computed.
+	 *
+	 * @param element the element
+	 * @param flags the adornment flags
+	 * @param stamp the stamp returned by {@link #getStamp()} before the flags were computed
+	 */
+	static void putAdornmentFlags(IJavaElement element, int flags, long stamp) {
+		synchronized (fgFlags) {
+			if (stamp == fgGeneration)
+				fgFlags.put(element, Integer.valueOf(flags));
+		}
+	}
+
+	/**
+	 * Removes all cached flags and stops listening to changes of Java elements.
+	 */
+	public static void dispose() {
+		synchronized (fgFlags) {
+			if (fgListener != null) {
+				JavaCore.removeElementChangedListener(fgListener);
+				fgListener= null;
+			}
+			fgFlags.clear();
+			fgGeneration++;
+		}
+	}
+
+	private static void elementChanged(ElementChangedEvent event) {
+		List<IJavaElement> changed= new ArrayList<>();
+		collectChangedElements(event.getDelta(), changed);
+		if (changed.isEmpty())
+			return;
+
+		synchronized (fgFlags) {
+			fgGeneration++;
+			for (Iterator<IJavaElement> iter= fgFlags.keySet().iterator(); iter.hasNext();) {
+				if (isAffected(iter.next(), changed))
+					iter.remove();
+			}
+		}
+	}
+
+	private static void collectChangedElements(IJavaElementDelta delta, List<IJavaElement> changed) {
+		IJavaElement element= delta.getElement();
+		int type= element.getElementType();
+		if (type == IJavaElement.COMPILATION_UNIT || type == IJavaElement.CLASS_FILE) {
+			changed.add(element);
+			return;
+		}
+		if (type > IJavaElement.CLASS_FILE) {
+			// a delta below an openable, invalidate the whole openable
+			changed.add(element.getOpenable() instanceof IJavaElement ? (IJavaElement) element.getOpenable() : element);
+			return;
+		}
+		int ignoredFlags= IJavaElementDelta.F_CHILDREN | IJavaElementDelta.F_CONTENT;
+		if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & ~ignoredFlags) != 0) {
+			changed.add(element);
+			return;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			collectChangedElements(child, changed);
+		}
+	}
+
+	private static boolean isAffected(IJavaElement element, List<IJavaElement> changed) {
+		for (IJavaElement curr= element; curr != null; curr= curr.getParent()) {
+			if (changed.contains(curr))
+				return true;
+		}
+		return false;
+	}
+}
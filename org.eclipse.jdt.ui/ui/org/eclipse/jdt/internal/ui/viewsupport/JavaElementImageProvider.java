@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -389,63 +389,77 @@ public class JavaElementImageProvider {
 	// ---- Methods to compute the adornments flags ---------------------------------
 
 	private int computeJavaAdornmentFlags(IJavaElement element, int renderFlags) {
+		if (!showOverlayIcons(renderFlags))
+			return 0;
+		if (!(element instanceof IMember))
+			return computeJavaAdornmentFlags(element);
+
+		// reading the modifiers and looking for main methods is expensive, cache the result per member
+		int flags= JavaElementAdornmentCache.getAdornmentFlags(element);
+		if (flags == JavaElementAdornmentCache.UNKNOWN) {
+			long stamp= JavaElementAdornmentCache.getStamp();
+			flags= computeJavaAdornmentFlags(element);
+			JavaElementAdornmentCache.putAdornmentFlags(element, flags, stamp);
+		}
+		return flags;
+	}
+
+	private int computeJavaAdornmentFlags(IJavaElement element) {
 		int flags= 0;
-		if (showOverlayIcons(renderFlags)) {
-			try {
-				if (element instanceof IMember) {
-					IMember member= (IMember)element;
-
-					int modifiers= member.getFlags();
-					if (confirmAbstract(member) && JdtFlags.isAbstract(member))
-						flags|= JavaElementImageDescriptor.ABSTRACT;
-					if (Flags.isFinal(modifiers) || isInterfaceOrAnnotationField(member) || isEnumConstant(member, modifiers))
-						flags|= JavaElementImageDescriptor.FINAL;
-					if (JdtFlags.isStatic(member))
-						flags|= JavaElementImageDescriptor.STATIC;
-
-					if (isInterfaceOrClassType(member)) {
-						if (Flags.isSealed(modifiers)) {
-							flags|= JavaElementImageDescriptor.SEALED;
-						}
-						if (Flags.isNonSealed(modifiers)) {
-							flags|= JavaElementImageDescriptor.NON_SEALED;
-						}
+		try {
+			if (element instanceof IMember) {
+				IMember member= (IMember)element;
+
+				int modifiers= member.getFlags();
+				if (confirmAbstract(member) && JdtFlags.isAbstract(member))
+					flags|= JavaElementImageDescriptor.ABSTRACT;
+				if (Flags.isFinal(modifiers) || isInterfaceOrAnnotationField(member) || isEnumConstant(member, modifiers))
+					flags|= JavaElementImageDescriptor.FINAL;
+				if (JdtFlags.isStatic(member))
+					flags|= JavaElementImageDescriptor.STATIC;
+
+				if (isInterfaceOrClassType(member)) {
+					if (Flags.isSealed(modifiers)) {
+						flags|= JavaElementImageDescriptor.SEALED;
 					}
-					if (Flags.isDeprecated(modifiers))
-						flags|= JavaElementImageDescriptor.DEPRECATED;
-
-					int elementType= element.getElementType();
-					if (elementType == IJavaElement.METHOD) {
-						if (((IMethod)element).isConstructor())
-							flags|= JavaElementImageDescriptor.CONSTRUCTOR;
-						if (Flags.isSynchronized(modifiers)) // collides with 'super' flag
-							flags|= JavaElementImageDescriptor.SYNCHRONIZED;
-						if (Flags.isNative(modifiers))
-							flags|= JavaElementImageDescriptor.NATIVE;
-						if (Flags.isDefaultMethod(modifiers))
-							flags|= JavaElementImageDescriptor.DEFAULT_METHOD;
-						if (Flags.isAnnnotationDefault(modifiers))
-							flags|= JavaElementImageDescriptor.ANNOTATION_DEFAULT;
+					if (Flags.isNonSealed(modifiers)) {
+						flags|= JavaElementImageDescriptor.NON_SEALED;
 					}
+				}
+				if (Flags.isDeprecated(modifiers))
+					flags|= JavaElementImageDescriptor.DEPRECATED;
+
+				int elementType= element.getElementType();
+				if (elementType == IJavaElement.METHOD) {
+					if (((IMethod)element).isConstructor())
+						flags|= JavaElementImageDescriptor.CONSTRUCTOR;
+					if (Flags.isSynchronized(modifiers)) // collides with 'super' flag
+						flags|= JavaElementImageDescriptor.SYNCHRONIZED;
+					if (Flags.isNative(modifiers))
+						flags|= JavaElementImageDescriptor.NATIVE;
+					if (Flags.isDefaultMethod(modifiers))
+						flags|= JavaElementImageDescriptor.DEFAULT_METHOD;
+					if (Flags.isAnnnotationDefault(modifiers))
+						flags|= JavaElementImageDescriptor.ANNOTATION_DEFAULT;
+				}
 
-					if (member.getElementType() == IJavaElement.TYPE) {
-						if (JavaModelUtil.hasMainMethod((IType)member)) {
-							flags|= JavaElementImageDescriptor.RUNNABLE;
-						}
+				if (member.getElementType() == IJavaElement.TYPE) {
+					if (JavaModelUtil.hasMainMethod((IType)member)) {
+						flags|= JavaElementImageDescriptor.RUNNABLE;
 					}
+				}
 
-					if (member.getElementType() == IJavaElement.FIELD) {
-						if (Flags.isVolatile(modifiers))
-							flags|= JavaElementImageDescriptor.VOLATILE;
-						if (Flags.isTransient(modifiers))
-							flags|= JavaElementImageDescriptor.TRANSIENT;
-					}
-				} else if (element instanceof ILocalVariable && Flags.isFinal(((ILocalVariable)element).getFlags())) {
-					flags|= JavaElementImageDescriptor.FINAL;
+				if (member.getElementType() == IJavaElement.FIELD) {
+					if (Flags.isVolatile(modifiers))
+						flags|= JavaElementImageDescriptor.VOLATILE;
+					if (Flags.isTransient(modifiers))
+						flags|= JavaElementImageDescriptor.TRANSIENT;
 				}
-			} catch (JavaModelException e) {
-				// do nothing. Can't compute runnable adornment or get flags
+			} else if (element instanceof ILocalVariable && Flags.isFinal(((ILocalVariable)element).getFlags())) {
+				flags|= JavaElementImageDescriptor.FINAL;
 			}
+		} catch (JavaModelException e) {
+			// do nothing. Can't compute runnable adornment or get flags
 		}
 		return flags;
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -25,6 +25,7 @@ import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 
 import org.eclipse.jface.preference.IPreferenceStore;
+import org.eclipse.jface.util.IPropertyChangeListener;
 import org.eclipse.jface.viewers.StyledString;
 import org.eclipse.jface.viewers.StyledString.Styler;
 
@@ -34,6 +35,7 @@ import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.JavaModelException;
 
+import org.eclipse.jdt.internal.core.manipulation.JavaElementLabelCache;
 import org.eclipse.jdt.internal.core.manipulation.JavaElementLabelComposerCore;
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
 import org.eclipse.jdt.internal.corext.util.Messages;
@@ -185,6 +187,9 @@ public class JavaElementLabelComposer extends JavaElementLabelComposerCore {
 	private static String fgPkgNameAbbreviationPattern= ""; //$NON-NLS-1$
 	private static PackageNameAbbreviation[] fgPkgNameAbbreviation;
 
+	/** Updates the patterns when their preferences change, <code>null</code> until they are read */
+	private static volatile IPropertyChangeListener fgPatternListener;
+
 	/**
 	 * Creates a new java element composer based on the given buffer.
 	 *
@@ -362,7 +367,7 @@ public class JavaElementLabelComposer extends JavaElementLabelComposerCore {
 
 	@Override
 	protected void appendAbbreviatedPackageFragment(IPackageFragment pack) {
-		refreshPackageNameAbbreviation();
+		initPackageNamePatterns();
 
 		String pkgName= pack.getElementName();
 
@@ -492,11 +497,56 @@ public class JavaElementLabelComposer extends JavaElementLabelComposerCore {
 
 	@Override
 	protected void refreshPackageNamePattern() {
+		initPackageNamePatterns();
+	}
+
+	/**
+	 * Reads the package name compression and abbreviation patterns from the preferences when first
+	 * called. Afterwards, the patterns are updated by a listener whenever one of their preferences
+	 * changes, so that composing a label does not have to look at the preferences.
+	 */
+	static void initPackageNamePatterns() {
+		if (fgPatternListener != null)
+			return;
+		synchronized (JavaElementLabelComposer.class) {
+			if (fgPatternListener != null)
+				return;
+			IPropertyChangeListener listener= event -> {
+				String property= event.getProperty();
+				if (PreferenceConstants.APPEARANCE_PKG_NAME_PATTERN_FOR_PKG_VIEW.equals(property)
+						|| PreferenceConstants.APPEARANCE_COMPRESS_PACKAGE_NAMES.equals(property)
+						|| PreferenceConstants.APPEARANCE_PKG_NAME_ABBREVIATION_PATTERN_FOR_PKG_VIEW.equals(property)
+						|| PreferenceConstants.APPEARANCE_ABBREVIATE_PACKAGE_NAMES.equals(property)) {
+					refreshPackageNamePatterns();
+				}
+			};
+			PreferenceConstants.getPreferenceStore().addPropertyChangeListener(listener);
+			refreshPackageNamePatterns();
+			fgPatternListener= listener;
+		}
+	}
+
+	/**
+	 * Updates the package name compression and abbreviation patterns from the preferences. The
+	 * cached labels are removed if a pattern changed, since they were composed with the previous
+	 * one.
+	 */
+	private static synchronized void refreshPackageNamePatterns() {
+		boolean changed= false;
 		String pattern= getPkgNamePatternForPackagesView();
+		if (!pattern.equals(fgPkgNamePattern)) {
+			setPackageNamePattern(pattern);
+			changed= true;
+		}
+		if (refreshPackageNameAbbreviation())
+			changed= true;
+		if (changed)
+			JavaElementLabelCache.clear();
+	}
+
+	private static void setPackageNamePattern(String pattern) {
 		final String EMPTY_STRING= ""; //$NON-NLS-1$
-		if (pattern.equals(fgPkgNamePattern))
-			return;
-		else if (pattern.length() == 0) {
+		if (pattern.length() == 0) {
 			fgPkgNamePattern= EMPTY_STRING;
 			fgPkgNameLength= -1;
 			return;
@@ -523,18 +573,18 @@ public class JavaElementLabelComposer extends JavaElementLabelComposerCore {
 		fgPkgNameLength= pattern.length();
 	}
 
-	private void refreshPackageNameAbbreviation() {
+	private static boolean refreshPackageNameAbbreviation() {
 		String pattern= getPkgNameAbbreviationPatternForPackagesView();
 
 		if (fgPkgNameAbbreviationPattern.equals(pattern))
-			return;
+			return false;
 
 		fgPkgNameAbbreviationPattern= pattern;
 
 		if (pattern == null || pattern.length() == 0) {
 			fgPkgNameAbbreviationPattern= ""; //$NON-NLS-1$
 			fgPkgNameAbbreviation= null;
-			return;
+			return true;
 		}
 
 		PackageNameAbbreviation[] abbrs= parseAbbreviationPattern(pattern);
@@ -543,6 +593,7 @@ public class JavaElementLabelComposer extends JavaElementLabelComposerCore {
 			abbrs= new PackageNameAbbreviation[0];
 
 		fgPkgNameAbbreviation= abbrs;
+		return true;
 	}
 
 	public static PackageNameAbbreviation[] parseAbbreviationPattern(String pattern) {
@@ -573,7 +624,7 @@ public class JavaElementLabelComposer extends JavaElementLabelComposerCore {
 		return store.getBoolean(PreferenceConstants.APPEARANCE_COMPRESS_PACKAGE_NAMES);
 	}
 
-	private String getPkgNamePatternForPackagesView() {
+	private static String getPkgNamePatternForPackagesView() {
 		IPreferenceStore store= PreferenceConstants.getPreferenceStore();
 		if (!store.getBoolean(PreferenceConstants.APPEARANCE_COMPRESS_PACKAGE_NAMES))
 			return ""; //$NON-NLS-1$
@@ -586,7 +637,7 @@ public class JavaElementLabelComposer extends JavaElementLabelComposerCore {
 		return store.getBoolean(PreferenceConstants.APPEARANCE_ABBREVIATE_PACKAGE_NAMES);
 	}
 
-	private String getPkgNameAbbreviationPatternForPackagesView() {
+	private static String getPkgNameAbbreviationPatternForPackagesView() {
 		IPreferenceStore store= PreferenceConstants.getPreferenceStore();
 		if (!store.getBoolean(PreferenceConstants.APPEARANCE_ABBREVIATE_PACKAGE_NAMES))
 			return ""; //$NON-NLS-1$
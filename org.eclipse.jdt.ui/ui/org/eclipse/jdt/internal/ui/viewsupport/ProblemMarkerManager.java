@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,11 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.ListenerList;
+import org.eclipse.core.runtime.jobs.IJobChangeEvent;
+import org.eclipse.core.runtime.jobs.IJobChangeListener;
+import org.eclipse.core.runtime.jobs.IJobManager;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobChangeAdapter;
 
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IMarkerDelta;
@@ -31,6 +36,7 @@ import org.eclipse.core.resources.IResourceChangeEvent;
 import org.eclipse.core.resources.IResourceChangeListener;
 import org.eclipse.core.resources.IResourceDelta;
 import org.eclipse.core.resources.IResourceDeltaVisitor;
+import org.eclipse.core.resources.ResourcesPlugin;
 
 import org.eclipse.jface.util.Throttler;
 
@@ -104,13 +110,41 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 		}
 	}
 
+	/**
+	 * Maximum time in milliseconds marker changes are held back while a build is running, so that
+	 * long builds still show their progress.
+	 */
+	private static final long MAX_BUILD_DEFERRAL= 5000;
+
 	private final ListenerList<IProblemChangedListener> fListeners= new ListenerList<>();
 
+	/** Guards the pending marker changes together with {@link #fFirstPendingMarkerChange} */
+	private final Object fMarkerChangesLock= new Object();
+
 	private final Set<IResource> fResourcesWithMarkerChanges= ConcurrentHashMap.newKeySet();
 	private final Set<IResource> fResourcesWithAnnotationChanges= ConcurrentHashMap.newKeySet();
 
+	/**
+	 * Time of the oldest marker change not yet reported to the listeners, <code>0</code> if none.
+	 * Guarded by {@link #fMarkerChangesLock}.
+	 */
+	private long fFirstPendingMarkerChange;
+
 	private final Throttler throttledUpdates= new Throttler(PlatformUI.getWorkbench().getDisplay(), Duration.ofMillis(250), this::runPendingUpdates);
 
+	/** Reports the deferred marker changes once {@link #MAX_BUILD_DEFERRAL} has elapsed */
+	private final Runnable fDeferralTimeout= this::fireChanges;
+
+	/** Reports the deferred marker changes when a build is done */
+	private final IJobChangeListener fBuildListener= new JobChangeAdapter() {
+		@Override
+		public void done(IJobChangeEvent event) {
+			if (!fResourcesWithMarkerChanges.isEmpty() && isBuild(event.getJob())) {
+				fireChanges();
+			}
+		}
+	};
+
 	public ProblemMarkerManager() {
 	}
 
@@ -129,7 +163,14 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 			JavaPlugin.log(e.getStatus());
 		}
 
-		if (fResourcesWithMarkerChanges.addAll(changedElements)) {
+		boolean added;
+		synchronized (fMarkerChangesLock) {
+			added= fResourcesWithMarkerChanges.addAll(changedElements);
+			if (added && fFirstPendingMarkerChange == 0) {
+				fFirstPendingMarkerChange= System.currentTimeMillis();
+			}
+		}
+		if (added) {
 			fireChanges();
 		}
 	}
@@ -161,6 +202,7 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 		if (fListeners.isEmpty()) {
 			JavaPlugin.getWorkspace().addResourceChangeListener(this);
 			JavaPlugin.getDefault().getCompilationUnitDocumentProvider().addGlobalAnnotationModelListener(this);
+			Job.getJobManager().addJobChangeListener(fBuildListener);
 		}
 		fListeners.add(listener);
 	}
@@ -174,6 +216,7 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 		if (fListeners.isEmpty()) {
 			JavaPlugin.getWorkspace().removeResourceChangeListener(this);
 			JavaPlugin.getDefault().getCompilationUnitDocumentProvider().removeGlobalAnnotationModelListener(this);
+			Job.getJobManager().removeJobChangeListener(fBuildListener);
 		}
 	}
 
@@ -183,11 +226,33 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 
 	/**
 	 * Notify all IProblemChangedListener. Must be called in the display thread.
+	 * <p>
+	 * While a build is running, marker changes are collected and reported in one batch once the
+	 * build is done, or at the latest after {@link #MAX_BUILD_DEFERRAL} milliseconds. Annotation
+	 * changes are always reported right away.
+	 * </p>
 	 */
 	private void runPendingUpdates() {
+		boolean buildRunning= isBuildRunning();
+		long deferral= 0;
 		ArrayList<IResource> resourcesWithMarkerChanges= new ArrayList<>();
 		ArrayList<IResource> resourcesWithAnnotationChanges= new ArrayList<>();
-		fResourcesWithMarkerChanges.removeIf(e -> resourcesWithMarkerChanges.add(e));
+		synchronized (fMarkerChangesLock) {
+			if (!fResourcesWithMarkerChanges.isEmpty()) {
+				long remaining= fFirstPendingMarkerChange + MAX_BUILD_DEFERRAL - System.currentTimeMillis();
+				if (buildRunning && remaining > 0) {
+					deferral= remaining;
+				} else {
+					resourcesWithMarkerChanges.addAll(fResourcesWithMarkerChanges);
+					fResourcesWithMarkerChanges.clear();
+					fFirstPendingMarkerChange= 0;
+				}
+			}
+		}
+		if (deferral > 0) {
+			// reported by fBuildListener once the build is done, or when the deferral times out
+			PlatformUI.getWorkbench().getDisplay().timerExec((int) deferral, fDeferralTimeout);
+		}
 		fResourcesWithAnnotationChanges.removeIf(e -> resourcesWithAnnotationChanges.add(e));
 		IResource[] markerResources= resourcesWithMarkerChanges.toArray(IResource[]::new);
 		IResource[] annotationResources= resourcesWithAnnotationChanges.toArray(IResource[]::new);
@@ -201,4 +266,21 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 		}
 	}
 
+	private static boolean isBuildRunning() {
+		IJobManager jobManager= Job.getJobManager();
+		return isRunning(jobManager.find(ResourcesPlugin.FAMILY_AUTO_BUILD)) || isRunning(jobManager.find(ResourcesPlugin.FAMILY_MANUAL_BUILD));
+	}
+
+	private static boolean isBuild(Job job) {
+		return job.belongsTo(ResourcesPlugin.FAMILY_AUTO_BUILD) || job.belongsTo(ResourcesPlugin.FAMILY_MANUAL_BUILD);
+	}
+
+	private static boolean isRunning(Job[] jobs) {
+		for (Job job : jobs) {
+			if (job.getState() == Job.RUNNING)
+				return true;
+		}
+		return false;
+	}
+
 }
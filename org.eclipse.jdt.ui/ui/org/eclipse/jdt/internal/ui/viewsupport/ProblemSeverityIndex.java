@@ -0,0 +1,399 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.viewsupport;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IMarkerDelta;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+/**
+ * Index of the severities of the problem markers in the workspace, aggregated over the resource
+ * tree (file, folder, project, workspace root).
+ * <p>
+ * The index is built once in the background, without blocking lookups, and then maintained from
+ * the marker deltas of resource change events, so that the maximum problem severity of a resource
+ * can be looked up at any depth without searching the markers. Until the index is built, lookups
+ * fall back to
+ * {@link IResource#findMaxProblemSeverity(String, boolean, int)}.
+ * </p>
+ *
+ * @since 3.31
+ */
+public final class ProblemSeverityIndex implements IResourceChangeListener {
+
+	/** Severities that are counted, {@link IMarker#SEVERITY_INFO} to {@link IMarker#SEVERITY_ERROR} */
+	private static final int SEVERITIES= IMarker.SEVERITY_ERROR + 1;
+
+	private static final class Node {
+		/** Severities of the markers on the resource itself, by marker id */
+		final Map<Long, Integer> fMarkers= new HashMap<>();
+		/** Number of markers on the resource itself, by severity */
+		final int[] fOwnCounts= new int[SEVERITIES];
+		/** Number of markers on the direct children of the resource, by severity */
+		final int[] fChildCounts= new int[SEVERITIES];
+		/** Number of markers on the resource and its descendants, by severity */
+		final int[] fTreeCounts= new int[SEVERITIES];
+
+		int findMaxSeverity(int depth) {
+			switch (depth) {
+				case IResource.DEPTH_ZERO:
+					return getMaxSeverity(fOwnCounts);
+				case IResource.DEPTH_ONE:
+					return Math.max(getMaxSeverity(fOwnCounts), getMaxSeverity(fChildCounts));
+				default:
+					return getMaxSeverity(fTreeCounts);
+			}
+		}
+
+		boolean isEmpty() {
+			for (int count : fTreeCounts) {
+				if (count != 0)
+					return false;
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * A change of the index, computed from a resource delta without holding {@link #fLock}.
+	 */
+	private static final class Update {
+		final IResource fResource;
+		/** <code>true</code> to remove the markers of the resource and its descendants */
+		final boolean fRemoveTree;
+		final long fId;
+		/** The severity of the marker, or <code>-1</code> if the marker was removed */
+		final int fSeverity;
+
+		Update(IResource resource, boolean removeTree, long id, int severity) {
+			fResource= resource;
+			fRemoveTree= removeTree;
+			fId= id;
+			fSeverity= severity;
+		}
+	}
+
+	private final Object fLock= new Object();
+
+	/** Guarded by {@link #fLock} */
+	private Map<IResource, Node> fNodes= new HashMap<>();
+
+	/** Guarded by {@link #fLock} */
+	private boolean fInstalled;
+
+	/** Incremented on every install, guarded by {@link #fLock} */
+	private int fInstallCount;
+
+	/** Set while holding {@link #fLock}, read without it */
+	private volatile boolean fReady;
+
+	/**
+	 * Resource deltas reported while the index is built, or <code>null</code> if none are recorded.
+	 * Guarded by {@link #fLock}.
+	 */
+	private List<IResourceDelta> fPendingDeltas;
+
+	private final Job fBuildJob= new Job("Java problems severity index...") { //$NON-NLS-1$
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			int installCount;
+			synchronized (fLock) {
+				if (!fInstalled || fReady)
+					return Status.OK_STATUS;
+				installCount= fInstallCount;
+			}
+			// build without holding the lock, changes reported meanwhile are recorded and applied afterwards
+			Map<IResource, Node> nodes= new HashMap<>();
+			try {
+				addMarkers(nodes, JavaPlugin.getWorkspace().getRoot());
+				while (!monitor.isCanceled()) {
+					List<IResourceDelta> deltas;
+					synchronized (fLock) {
+						if (!fInstalled || fInstallCount != installCount)
+							return Status.OK_STATUS;
+						deltas= fPendingDeltas;
+						if (deltas.isEmpty()) {
+							fNodes= nodes;
+							fPendingDeltas= null;
+							fReady= true;
+							return Status.OK_STATUS;
+						}
+						fPendingDeltas= new ArrayList<>();
+					}
+					for (IResourceDelta delta : deltas) {
+						apply(nodes, collectUpdates(delta));
+					}
+				}
+			} catch (CoreException e) {
+				JavaPlugin.log(e);
+			}
+			synchronized (fLock) {
+				if (fInstallCount == installCount)
+					fPendingDeltas= null;
+			}
+			return Status.OK_STATUS;
+		}
+
+		@Override
+		public boolean belongsTo(Object family) {
+			return ProblemSeverityIndex.class == family;
+		}
+	};
+
+	public ProblemSeverityIndex() {
+		fBuildJob.setSystem(true);
+		fBuildJob.setPriority(Job.DECORATE);
+	}
+
+	/**
+	 * Starts listening to marker changes and builds the index in the background.
+	 */
+	public void install() {
+		synchronized (fLock) {
+			if (fInstalled)
+				return;
+			fInstalled= true;
+			fInstallCount++;
+			fPendingDeltas= new ArrayList<>();
+		}
+		JavaPlugin.getWorkspace().addResourceChangeListener(this, IResourceChangeEvent.POST_CHANGE);
+		fBuildJob.schedule();
+	}
+
+	/**
+	 * Stops listening to marker changes and discards the index.
+	 */
+	public void uninstall() {
+		synchronized (fLock) {
+			if (!fInstalled)
+				return;
+			fInstalled= false;
+			fReady= false;
+			fPendingDeltas= null;
+			fNodes.clear();
+		}
+		JavaPlugin.getWorkspace().removeResourceChangeListener(this);
+		fBuildJob.cancel();
+	}
+
+	/**
+	 * @return <code>true</code> if the index is built and lookups do not search the markers
+	 */
+	public boolean isReady() {
+		return fReady;
+	}
+
+	/**
+	 * Returns the maximum severity of the problem markers (including subtypes) on the given resource,
+	 * as {@link IResource#findMaxProblemSeverity(String, boolean, int)} does for
+	 * {@link IMarker#PROBLEM}.
+	 *
+	 * @param resource the resource
+	 * @param depth the depth, one of the <code>IResource.DEPTH_*</code> constants
+	 * @return the maximum severity, or <code>-1</code> if there are no problem markers
+	 * @throws CoreException if the index is not built yet and the markers can not be searched
+	 */
+	public int findMaxProblemSeverity(IResource resource, int depth) throws CoreException {
+		synchronized (fLock) {
+			if (fReady) {
+				Node node= fNodes.get(resource);
+				return node != null ? node.findMaxSeverity(depth) : -1;
+			}
+		}
+		return resource.findMaxProblemSeverity(IMarker.PROBLEM, true, depth);
+	}
+
+	private static int getMaxSeverity(int[] counts) {
+		for (int severity= counts.length - 1; severity >= 0; severity--) {
+			if (counts[severity] != 0)
+				return severity;
+		}
+		return -1;
+	}
+
+	@Override
+	public void resourceChanged(IResourceChangeEvent event) {
+		IResourceDelta delta= event.getDelta();
+		if (delta == null)
+			return;
+		int installCount;
+		synchronized (fLock) {
+			if (!fInstalled)
+				return;
+			if (!fReady) {
+				if (fPendingDeltas != null)
+					fPendingDeltas.add(delta);
+				return;
+			}
+			installCount= fInstallCount;
+		}
+		// visit the delta and search the markers of added resources without holding the lock
+		List<Update> updates;
+		try {
+			updates= collectUpdates(delta);
+		} catch (CoreException e) {
+			JavaPlugin.log(e.getStatus());
+			return;
+		}
+		if (updates.isEmpty())
+			return;
+		synchronized (fLock) {
+			if (fReady && fInstallCount == installCount)
+				apply(fNodes, updates);
+		}
+	}
+
+	private static List<Update> collectUpdates(IResourceDelta delta) throws CoreException {
+		List<Update> updates= new ArrayList<>();
+		delta.accept(d -> visit(updates, d));
+		return updates;
+	}
+
+	private static boolean visit(List<Update> updates, IResourceDelta delta) throws CoreException {
+		IResource resource= delta.getResource();
+		int kind= delta.getKind();
+		if (kind == IResourceDelta.REMOVED) {
+			updates.add(new Update(resource, true, 0, -1));
+			return false;
+		}
+		if (kind == IResourceDelta.ADDED || (delta.getFlags() & IResourceDelta.OPEN) != 0) {
+			// markers of moved resources and opened projects are not reported as marker deltas
+			updates.add(new Update(resource, true, 0, -1));
+			if (resource.isAccessible())
+				addMarkers(updates, resource);
+			return false;
+		}
+		if ((delta.getFlags() & IResourceDelta.MARKERS) != 0) {
+			for (IMarkerDelta markerDelta : delta.getMarkerDeltas()) {
+				if (!markerDelta.isSubtypeOf(IMarker.PROBLEM))
+					continue;
+				int severity;
+				switch (markerDelta.getKind()) {
+					case IResourceDelta.ADDED:
+						severity= markerDelta.getAttribute(IMarker.SEVERITY, -1);
+						break;
+					case IResourceDelta.CHANGED:
+						severity= markerDelta.getMarker().getAttribute(IMarker.SEVERITY, -1);
+						break;
+					default:
+						severity= -1;
+						break;
+				}
+				updates.add(new Update(resource, false, markerDelta.getId(), severity));
+			}
+		}
+		return true;
+	}
+
+	private static void addMarkers(List<Update> updates, IResource resource) throws CoreException {
+		for (IMarker marker : resource.findMarkers(IMarker.PROBLEM, true, IResource.DEPTH_INFINITE)) {
+			updates.add(new Update(marker.getResource(), false, marker.getId(), marker.getAttribute(IMarker.SEVERITY, -1)));
+		}
+	}
+
+	private static void addMarkers(Map<IResource, Node> nodes, IResource resource) throws CoreException {
+		for (IMarker marker : resource.findMarkers(IMarker.PROBLEM, true, IResource.DEPTH_INFINITE)) {
+			setSeverity(nodes, marker.getResource(), marker.getId(), marker.getAttribute(IMarker.SEVERITY, -1));
+		}
+	}
+
+	private static void apply(Map<IResource, Node> nodes, List<Update> updates) {
+		for (Update update : updates) {
+			if (update.fRemoveTree)
+				removeMarkers(nodes, update.fResource);
+			else
+				setSeverity(nodes, update.fResource, update.fId, update.fSeverity);
+		}
+	}
+
+	private static void removeMarkers(Map<IResource, Node> nodes, IResource resource) {
+		if (!nodes.containsKey(resource))
+			return; // neither the resource nor a descendant has markers
+		IPath path= resource.getFullPath();
+		List<IResource> removed= new ArrayList<>();
+		for (Map.Entry<IResource, Node> entry : nodes.entrySet()) {
+			if (!entry.getValue().fMarkers.isEmpty() && path.isPrefixOf(entry.getKey().getFullPath()))
+				removed.add(entry.getKey());
+		}
+		for (IResource curr : removed) {
+			Node node= nodes.get(curr);
+			for (Long id : new ArrayList<>(node.fMarkers.keySet())) {
+				setSeverity(nodes, curr, id.longValue(), -1);
+			}
+		}
+	}
+
+	/**
+	 * Records the severity of a marker.
+	 *
+	 * @param nodes the nodes to update
+	 * @param resource the resource of the marker
+	 * @param id the id of the marker
+	 * @param severity the severity of the marker, or <code>-1</code> if the marker was removed
+	 */
+	private static void setSeverity(Map<IResource, Node> nodes, IResource resource, long id, int severity) {
+		boolean isCounted= severity >= 0 && severity < SEVERITIES;
+		Node node= nodes.get(resource);
+		if (node == null) {
+			if (!isCounted)
+				return;
+			node= new Node();
+			nodes.put(resource, node);
+		}
+		Integer old= isCounted ? node.fMarkers.put(Long.valueOf(id), Integer.valueOf(severity)) : node.fMarkers.remove(Long.valueOf(id));
+		if (old != null && old.intValue() == severity)
+			return;
+
+		// count the new severity first, so that the node is not dropped in between
+		if (isCounted)
+			updateCounts(nodes, resource, severity, 1);
+		if (old != null)
+			updateCounts(nodes, resource, old.intValue(), -1);
+	}
+
+	private static void updateCounts(Map<IResource, Node> nodes, IResource resource, int severity, int delta) {
+		int level= 0;
+		for (IResource curr= resource; curr != null; curr= curr.getParent(), level++) {
+			Node node= nodes.get(curr);
+			if (node == null) {
+				node= new Node();
+				nodes.put(curr, node);
+			}
+			if (level == 0)
+				node.fOwnCounts[severity]+= delta;
+			else if (level == 1)
+				node.fChildCounts[severity]+= delta;
+			node.fTreeCounts[severity]+= delta;
+			if (node.isEmpty())
+				nodes.remove(curr);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -51,6 +51,7 @@ import org.eclipse.jdt.internal.corext.util.Strings;
 import org.eclipse.jdt.launching.JavaRuntime;
 
 import org.eclipse.jdt.internal.ui.packageview.ClassPathContainer;
+import org.eclipse.jdt.internal.ui.viewsupport.CachedJavaElementLabels;
 import org.eclipse.jdt.internal.ui.viewsupport.JavaElementLabelComposer;
 
 
@@ -529,7 +530,7 @@ public class JavaElementLabels {
 	 * @param buf the buffer to append the resulting label to
 	 */
 	public static void getElementLabel(IJavaElement element, long flags, StringBuffer buf) {
-		new JavaElementLabelComposer(buf).appendElementLabel(element, flags);
+		CachedJavaElementLabels.appendElementLabel(element, flags, buf);
 	}
 
 	/**
@@ -542,7 +543,7 @@ public class JavaElementLabels {
 	 * @since 3.4
 	 */
 	public static void getElementLabel(IJavaElement element, long flags, StyledString result) {
-		new JavaElementLabelComposer(result).appendElementLabel(element, flags);
+		CachedJavaElementLabels.appendElementLabel(element, flags, result);
 	}
 
 
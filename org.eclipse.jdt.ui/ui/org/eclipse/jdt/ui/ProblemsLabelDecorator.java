@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -82,6 +82,7 @@ import org.eclipse.jdt.internal.ui.JavaPluginImages;
 import org.eclipse.jdt.internal.ui.viewsupport.IProblemChangedListener;
 import org.eclipse.jdt.internal.ui.viewsupport.ImageDescriptorRegistry;
 import org.eclipse.jdt.internal.ui.viewsupport.ImageImageDescriptor;
+import org.eclipse.jdt.internal.ui.viewsupport.ProblemSeverityIndex;
 
 /**
  * LabelDecorator that decorates an element's image with error and warning overlays that
@@ -354,10 +355,14 @@ public class ProblemsLabelDecorator implements ILabelDecorator, ILightweightLabe
 		/** Job to compute adornments for container resources in background */
 		final AdornmentCalculationJob adornmentJob;
 
+		/** Problem severities of all resources, maintained while decorators are registered */
+		final ProblemSeverityIndex severityIndex;
+
 		public AdornmentCacheManager() {
 			adornmentCache = new ConcurrentHashMap<>();
 			adornmentJob = new AdornmentCalculationJob();
 			listeners = Collections.synchronizedSet(new LinkedHashSet<>());
+			severityIndex = new ProblemSeverityIndex();
 		}
 
 		static void scheduleTask(IResource resource, AdornmentUpdateJob uiUpdate) {
@@ -374,6 +379,7 @@ public class ProblemsLabelDecorator implements ILabelDecorator, ILightweightLabe
 
 		static void register(ProblemsLabelDecorator decorator) {
 			instance.listeners.add(decorator);
+			instance.severityIndex.install();
 		}
 
 		static void deregister(ProblemsLabelDecorator decorator) {
@@ -381,8 +387,13 @@ public class ProblemsLabelDecorator implements ILabelDecorator, ILightweightLabe
 			if(instance.listeners.isEmpty()) {
 				instance.adornmentJob.cancel();
 				instance.adornmentCache.clear();
+				instance.severityIndex.uninstall();
 			}
 		}
+
+		static int findMaxProblemSeverity(IResource resource, int depth) throws CoreException {
+			return instance.severityIndex.findMaxProblemSeverity(resource, depth);
+		}
 	}
 
 	static final class AdornmentCalculationJob extends Job {
@@ -551,10 +562,14 @@ public class ProblemsLabelDecorator implements ILabelDecorator, ILightweightLabe
 		}
 	}
 
-	private int computeContainerAdornmentFlags(IResource resource) {
+	private int computeContainerAdornmentFlags(IResource resource) throws CoreException {
 		if (resource == null) {
 			return 0;
 		}
+		if (AdornmentCacheManager.instance.severityIndex.isReady()) {
+			// the index answers without searching the markers, no need to compute in background
+			return getErrorTicksFromMarkers(resource, IResource.DEPTH_INFINITE);
+		}
 		Integer cachedAdornment = AdornmentCacheManager.getAdornment(resource);
 		int adornment = cachedAdornment != null ? cachedAdornment.intValue() : 0;
 		AdornmentCacheManager.scheduleTask(resource, adornmentUpdateJob);
@@ -597,7 +612,7 @@ public class ProblemsLabelDecorator implements ILabelDecorator, ILightweightLabe
 				return ERRORTICK_BUILDPATH_ERROR;
 			}
 		}
-		severity= res.findMaxProblemSeverity(IMarker.PROBLEM, true, depth);
+		severity= AdornmentCacheManager.findMaxProblemSeverity(res, depth);
 		return convertToTick(severity);
 	}
 
@@ -676,6 +691,9 @@ public class ProblemsLabelDecorator implements ILabelDecorator, ILightweightLabe
 
 	private int findMaxProblemSeverity (IResource res, String type, boolean includeSubtypes, int depth) throws CoreException {
 		try {
+			if (IMarker.PROBLEM.equals(type) && includeSubtypes) {
+				return AdornmentCacheManager.findMaxProblemSeverity(res, depth);
+			}
 			return res.findMaxProblemSeverity(type, includeSubtypes, depth);
 		} catch (CoreException e) {
 			if (e.getStatus().getCode() == IResourceStatus.RESOURCE_NOT_FOUND) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,7 @@ package org.eclipse.jdt.ui.jarpackager;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
@@ -249,29 +250,42 @@ public class JarWriter3 {
 	 */
 	protected void addFile(IFile resource, IPath path) throws IOException, CoreException {
 		JarEntry newEntry= new JarEntry(path.toString().replace(File.separatorChar, '/'));
-		byte[] readBuffer= new byte[4096];
-
-		if (fJarPackage.isCompressed())
-			newEntry.setMethod(ZipEntry.DEFLATED);
-			// Entry is filled automatically.
-		else {
-			newEntry.setMethod(ZipEntry.STORED);
-			JarPackagerUtil.calculateCrcAndSize(newEntry, resource.getContents(false), readBuffer);
-		}
 
 		long lastModified= System.currentTimeMillis();
+		long length= -1;
 		URI locationURI= resource.getLocationURI();
 		if (locationURI != null) {
 			IFileInfo info= EFS.getStore(locationURI).fetchInfo();
-			if (info.exists())
+			if (info.exists()) {
 				lastModified= info.getLastModified();
+				length= info.getLength();
+			}
+		}
+
+		InputStream contentStream;
+		if (fJarPackage.isCompressed()) {
+			newEntry.setMethod(ZipEntry.DEFLATED);
+			// Entry is filled automatically.
+			contentStream= resource.getContents(false);
+		} else {
+			newEntry.setMethod(ZipEntry.STORED);
+			if (length >= 0 && length <= JarPackagerUtil.MAX_BUFFERED_ENTRY_SIZE) {
+				// read the file only once
+				byte[] content;
+				try (InputStream stream= resource.getContents(false)) {
+					content= stream.readAllBytes();
+				}
+				JarPackagerUtil.calculateCrcAndSize(newEntry, content);
+				contentStream= new ByteArrayInputStream(content);
+			} else {
+				JarPackagerUtil.calculateCrcAndSize(newEntry, resource.getContents(false), new byte[4096]);
+				contentStream= resource.getContents(false);
+			}
 		}
 
 		// Set modification time
 		newEntry.setTime(lastModified);
 
-		InputStream contentStream = resource.getContents(false);
-
 		addEntry(newEntry, contentStream);
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2011 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -31,7 +31,9 @@ import org.eclipse.core.runtime.Assert;
 import org.eclipse.jface.preference.IPreferenceStore;
 
 import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.DocumentEvent;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentListener;
 import org.eclipse.jface.text.IRegion;
 import org.eclipse.jface.text.Position;
 import org.eclipse.jface.text.Region;
@@ -104,6 +106,8 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 		private boolean fHasHeaderComment;
 		private LinkedHashMap<JavaProjectionAnnotation, Position> fMap= new LinkedHashMap<>();
 		private IScanner fScanner;
+		/** <code>true</code> if the scanner is set to the source of the input element */
+		private boolean fHasSource;
 
 		private FoldingStructureComputationContext(IDocument document, ProjectionAnnotationModel model, boolean allowCollapsing, IScanner scanner) {
 			Assert.isNotNull(document);
@@ -365,7 +369,7 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 
 				fUpdatingCount++;
 				try {
-					update(createContext(false));
+					update(createContext(false), delta);
 				} finally {
 					fUpdatingCount--;
 				}
@@ -448,6 +452,139 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 		}
 	}
 
+	/**
+	 * The elements whose folding structure is recomputed by an incremental update, see
+	 * {@link DefaultJavaFoldingStructureProvider#computeUpdateScope(IJavaElementDelta, IRegion)}.
+	 */
+	private static final class UpdateScope {
+		/** Roots of the subtrees reported as added, removed or changed by the delta */
+		final Set<IJavaElement> fSubtrees= new HashSet<>();
+		/** Elements outside of the subtrees that were recomputed as they overlap the dirty region */
+		final Set<IJavaElement> fElements= new HashSet<>();
+		/** The document region edited since the last update, or <code>null</code> */
+		final IRegion fDirtyRegion;
+		/** The first type if its folding structure (and header comment) is not recomputed */
+		IType fFirstType;
+
+		UpdateScope(IRegion dirtyRegion) {
+			fDirtyRegion= dirtyRegion;
+		}
+
+		boolean isInSubtree(IJavaElement element) {
+			for (IJavaElement curr= element; curr != null; curr= curr.getParent()) {
+				if (fSubtrees.contains(curr))
+					return true;
+			}
+			return false;
+		}
+
+		boolean intersects(ISourceRange range) {
+			if (fDirtyRegion == null || !SourceRange.isAvailable(range))
+				return false;
+			int dirtyStart= fDirtyRegion.getOffset();
+			return range.getOffset() <= dirtyStart + fDirtyRegion.getLength() && dirtyStart <= range.getOffset() + range.getLength();
+		}
+
+		/**
+		 * @param element the element of an existing annotation
+		 * @return <code>true</code> if the annotations of the element are recomputed
+		 */
+		boolean contains(IJavaElement element) {
+			return fElements.contains(element) || isInSubtree(element);
+		}
+	}
+
+	/**
+	 * Tracks the region of the document that was edited since the last update of the folding
+	 * structure.
+	 * <p>
+	 * The edits consumed by an update may be newer than the Java model the update is based on, when
+	 * they are made while the compilation unit is reconciled. They are therefore reported to the
+	 * following update once more.
+	 * </p>
+	 */
+	private static final class DirtyRegionTracker implements IDocumentListener {
+
+		private static final class Span {
+			int fStart= -1;
+			int fEnd= -1;
+
+			boolean isEmpty() {
+				return fStart < 0;
+			}
+
+			void shift(int offset, int removed, int inserted) {
+				if (isEmpty())
+					return;
+				int delta= inserted - removed;
+				if (fStart >= offset + removed)
+					fStart+= delta;
+				else if (fStart > offset)
+					fStart= offset;
+				if (fEnd >= offset + removed)
+					fEnd+= delta;
+				else if (fEnd > offset)
+					fEnd= offset + inserted;
+			}
+
+			void add(int start, int end) {
+				if (isEmpty()) {
+					fStart= start;
+					fEnd= end;
+				} else {
+					fStart= Math.min(fStart, start);
+					fEnd= Math.max(fEnd, end);
+				}
+			}
+		}
+
+		private final IDocument fDocument;
+		/** Edits since the last update */
+		private Span fCurrent= new Span();
+		/** Edits consumed by the last update */
+		private Span fPrevious= new Span();
+
+		DirtyRegionTracker(IDocument document) {
+			fDocument= document;
+			fDocument.addDocumentListener(this);
+		}
+
+		void dispose() {
+			fDocument.removeDocumentListener(this);
+		}
+
+		/**
+		 * Returns the region edited since the last update, including the edits reported to the last
+		 * update, and starts tracking the edits for the next update.
+		 *
+		 * @return the dirty region, or <code>null</code> if the document was not edited
+		 */
+		synchronized IRegion consume() {
+			Span span= new Span();
+			if (!fCurrent.isEmpty())
+				span.add(fCurrent.fStart, fCurrent.fEnd);
+			if (!fPrevious.isEmpty())
+				span.add(fPrevious.fStart, fPrevious.fEnd);
+			fPrevious= fCurrent;
+			fCurrent= new Span();
+			return span.isEmpty() ? null : new Region(span.fStart, span.fEnd - span.fStart);
+		}
+
+		@Override
+		public void documentAboutToBeChanged(DocumentEvent event) {
+		}
+
+		@Override
+		public synchronized void documentChanged(DocumentEvent event) {
+			int offset= event.getOffset();
+			int removed= event.getLength();
+			int inserted= event.getText() == null ? 0 : event.getText().length();
+			fPrevious.shift(offset, removed, inserted);
+			fCurrent.shift(offset, removed, inserted);
+			fCurrent.add(offset, offset + inserted);
+		}
+	}
+
 	/**
 	 * Projection position that will return two foldable regions: one folding away
 	 * the region from after the '/**' to the beginning of the content, the other
@@ -705,6 +842,7 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 	private ProjectionListener fProjectionListener;
 	private IJavaElement fInput;
 	private IElementChangedListener fElementListener;
+	private volatile DirtyRegionTracker fDirtyRegionTracker;
 
 	/* preferences */
 	private boolean fCollapseJavadoc= false;
@@ -831,6 +969,10 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 			JavaCore.removeElementChangedListener(fElementListener);
 			fElementListener= null;
 		}
+		if (fDirtyRegionTracker != null) {
+			fDirtyRegionTracker.dispose();
+			fDirtyRegionTracker= null;
+		}
 	}
 
 	/*
@@ -840,12 +982,29 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 	public final void initialize() {
 		fUpdatingCount++;
 		try {
-			update(createInitialContext());
+			installDirtyRegionTracker();
+			update(createInitialContext(), null);
 		} finally {
 			fUpdatingCount--;
 		}
 	}
 
+	/**
+	 * Tracks the edits of the editor's document, which may have changed with the editor input.
+	 */
+	private void installDirtyRegionTracker() {
+		IDocument document= getDocument();
+		DirtyRegionTracker tracker= fDirtyRegionTracker;
+		if (tracker != null) {
+			if (tracker.fDocument == document)
+				return;
+			tracker.dispose();
+			fDirtyRegionTracker= null;
+		}
+		if (document != null)
+			fDirtyRegionTracker= new DirtyRegionTracker(document);
+	}
+
 	private FoldingStructureComputationContext createInitialContext() {
 		initializePreferences();
 		fInput= getInputElement();
@@ -887,7 +1046,16 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 		fCollapseHeaderComments= store.getBoolean(PreferenceConstants.EDITOR_FOLDING_HEADERS);
 	}
 
-	private void update(FoldingStructureComputationContext ctx) {
+	/**
+	 * Updates the folding structure. If the update is caused by a reconcile delta, only the
+	 * elements that were changed are recomputed where possible, while the annotations of all other
+	 * elements are kept as they are. Their positions are updated by the document.
+	 *
+	 * @param ctx the context, may be <code>null</code>
+	 * @param delta the delta of the input element, or <code>null</code> to recompute the whole
+	 *        folding structure
+	 */
+	private void update(FoldingStructureComputationContext ctx, IJavaElementDelta delta) {
 		if (ctx == null)
 			return;
 
@@ -895,9 +1063,15 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 		List<JavaProjectionAnnotation> deletions= new ArrayList<>();
 		List<JavaProjectionAnnotation> updates= new ArrayList<>();
 
-		computeFoldingStructure(ctx);
+		DirtyRegionTracker tracker= fDirtyRegionTracker;
+		IRegion dirtyRegion= tracker != null ? tracker.consume() : null;
+		UpdateScope scope= delta != null && tracker != null ? computeUpdateScope(delta, dirtyRegion) : null;
+		if (scope != null)
+			computeFoldingStructure(scope, ctx);
+		else
+			computeFoldingStructure(ctx);
 		Map<JavaProjectionAnnotation, Position> newStructure= ctx.fMap;
-		Map<IJavaElement, List<Tuple>> oldStructure= computeCurrentStructure(ctx);
+		Map<IJavaElement, List<Tuple>> oldStructure= computeCurrentStructure(ctx, scope);
 
 		Iterator<JavaProjectionAnnotation> e= newStructure.keySet().iterator();
 		while (e.hasNext()) {
@@ -978,11 +1152,98 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 				return;
 
 			ctx.getScanner().setSource(source.toCharArray());
+			ctx.fHasSource= true;
 			computeFoldingStructure(parent.getChildren(), ctx);
 		} catch (JavaModelException x) {
 		}
 	}
 
+	/**
+	 * Determines which elements need to be recomputed for a reconcile delta: the subtrees of the
+	 * elements the delta reports as added, removed or changed, and the elements whose source range
+	 * overlaps the region edited since the last update, as the delta does not report e.g. changed
+	 * comments or method bodies.
+	 * <p>
+	 * Subclasses may fold elements depending on more than their own source, so they always
+	 * recompute the whole folding structure.
+	 * </p>
+	 *
+	 * @param delta the delta of the input element
+	 * @param dirtyRegion the region edited since the last update, or <code>null</code>
+	 * @return the scope of an incremental update, or <code>null</code> if the whole folding
+	 *         structure must be recomputed
+	 */
+	private UpdateScope computeUpdateScope(IJavaElementDelta delta, IRegion dirtyRegion) {
+		if (getClass() != DefaultJavaFoldingStructureProvider.class)
+			return null;
+		if ((delta.getFlags() & IJavaElementDelta.F_FINE_GRAINED) == 0 || !(fInput instanceof ISourceReference))
+			return null;
+
+		UpdateScope scope= new UpdateScope(dirtyRegion);
+		collectChangedSubtrees(delta, scope.fSubtrees);
+		try {
+			IType firstType= null;
+			for (IJavaElement child : ((IParent) fInput).getChildren()) {
+				if (child instanceof IType) {
+					firstType= (IType) child;
+					break;
+				}
+			}
+			if (firstType != null) {
+				ISourceRange range= firstType.getSourceRange();
+				if (scope.isInSubtree(firstType) || !SourceRange.isAvailable(range))
+					return null;
+				// the header comment may have changed
+				if (dirtyRegion != null && dirtyRegion.getOffset() < range.getOffset())
+					return null;
+				if (!scope.intersects(range))
+					scope.fFirstType= firstType;
+			}
+		} catch (JavaModelException x) {
+			return null;
+		}
+		return scope;
+	}
+
+	private static void collectChangedSubtrees(IJavaElementDelta delta, Set<IJavaElement> subtrees) {
+		int ignoredFlags= IJavaElementDelta.F_CHILDREN | IJavaElementDelta.F_FINE_GRAINED;
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (child.getKind() != IJavaElementDelta.CHANGED || (child.getFlags() & ~ignoredFlags) != 0)
+				subtrees.add(child.getElement());
+			else
+				collectChangedSubtrees(child, subtrees);
+		}
+	}
+
+	private void computeFoldingStructure(UpdateScope scope, FoldingStructureComputationContext ctx) {
+		try {
+			String source= ((ISourceReference) fInput).getSource();
+			if (source == null)
+				return;
+
+			ctx.getScanner().setSource(source.toCharArray());
+			ctx.fHasSource= true;
+			if (scope.fFirstType != null)
+				ctx.setFirstType(scope.fFirstType);
+			computeFoldingStructure(((IParent) fInput).getChildren(), scope, ctx);
+		} catch (JavaModelException x) {
+		}
+	}
+
+	private void computeFoldingStructure(IJavaElement[] elements, UpdateScope scope, FoldingStructureComputationContext ctx) throws JavaModelException {
+		for (IJavaElement element : elements) {
+			if (scope.isInSubtree(element) || element instanceof ISourceReference && scope.intersects(((ISourceReference) element).getSourceRange())) {
+				computeFoldingStructure(element, ctx);
+				scope.fElements.add(element);
+			}
+
+			if (element instanceof IParent) {
+				IParent parent= (IParent) element;
+				computeFoldingStructure(parent.getChildren(), scope, ctx);
+			}
+		}
+	}
+
 	private void computeFoldingStructure(IJavaElement[] elements, FoldingStructureComputationContext ctx) throws JavaModelException {
 		for (IJavaElement element : elements) {
 			computeFoldingStructure(element, ctx);
@@ -1111,8 +1372,8 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 				if (!SourceRange.isAvailable(range))
 					return new IRegion[0];
 
-				String contents= reference.getSource();
-				if (contents == null)
+				// members of an input with source have source, no need to copy it
+				if (!ctx.fHasSource && reference.getSource() == null)
 					return new IRegion[0];
 
 				List<IRegion> regions= new ArrayList<>();
@@ -1391,7 +1652,7 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 		return null;
 	}
 
-	private Map<IJavaElement, List<Tuple>> computeCurrentStructure(FoldingStructureComputationContext ctx) {
+	private Map<IJavaElement, List<Tuple>> computeCurrentStructure(FoldingStructureComputationContext ctx, UpdateScope scope) {
 		Map<IJavaElement, List<Tuple>> map= new HashMap<>();
 		ProjectionAnnotationModel model= ctx.getModel();
 		Iterator<Annotation> e= model.getAnnotationIterator();
@@ -1399,6 +1660,8 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 			Object annotation= e.next();
 			if (annotation instanceof JavaProjectionAnnotation) {
 				JavaProjectionAnnotation java= (JavaProjectionAnnotation) annotation;
+				if (scope != null && !scope.contains(java.getElement()))
+					continue; // not recomputed, keep it
 				Position position= model.getPosition(java);
 				Assert.isNotNull(position);
 				List<Tuple> list= map.get(java.getElement());